@@ -0,0 +1,74 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.BackendApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트와 H2 데이터. rows 마다 별도 JVM(fork)에서 한 번 만든다.
+ * 게시글/댓글/쪽지를 각각 rows 건 넣는다 - 댓글은 앞쪽 10% 게시글에 10개씩, 쪽지는 사용자 100명이 고르게 주고받는다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    static final int USERS = 100;
+    static final long FIRST_USER_ID = 1001;
+    static final int COMMENTS_PER_POST = 10;
+    private static final String CREATED = "DATEADD(SECOND, X, TIMESTAMP '2026-01-01 00:00:00')";
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "outbox.relay.enabled=false")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // 댓글이 달린 게시글 수 (id 1부터)
+    int commentedPosts() {
+        return Math.max(rows / COMMENTS_PER_POST, 1);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, username, unread_message_count, created_at, updated_at)"
+                + " SELECT X, CONCAT('bench', X, '@example.com'), 'pw', CONCAT('사용자', X), 0, " + CREATED + ", " + CREATED
+                + " FROM SYSTEM_RANGE(?, ?)", FIRST_USER_ID, FIRST_USER_ID + USERS - 1);
+        jdbcTemplate.update("INSERT INTO posts (id, user_id, title, content, view_count, like_count, comment_count, created_at, updated_at)"
+                + " SELECT X, ? + MOD(X, ?), CONCAT('게시글 ', X), REPEAT('내용 ', 40), 0, 0, 0, " + CREATED + ", " + CREATED
+                + " FROM SYSTEM_RANGE(1, ?)", FIRST_USER_ID, USERS, rows);
+        jdbcTemplate.update("INSERT INTO comments (id, post_id, user_id, content, created_at, updated_at)"
+                + " SELECT X, 1 + MOD(X, ?), ? + MOD(X, ?), CONCAT('댓글 ', X), " + CREATED + ", " + CREATED
+                + " FROM SYSTEM_RANGE(1, ?)", commentedPosts(), FIRST_USER_ID, USERS, rows);
+        jdbcTemplate.update("INSERT INTO messages (id, sender_id, recipient_id, content, created_at)"
+                + " SELECT X, ? + MOD(X, ?), ? + MOD(X + 1, ?), CONCAT('쪽지 ', X), " + CREATED
+                + " FROM SYSTEM_RANGE(1, ?)", FIRST_USER_ID, USERS, FIRST_USER_ID, USERS, rows);
+    }
+}
@@ -0,0 +1,62 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.MessageDTO;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.entity.Comment;
+import com.eoullim_backend.entity.Message;
+import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 → DTO 변환만 (DB 없이 메모리의 엔티티). 건당 할당량은 -prof gc 의 gc.alloc.rate.norm
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Post post;
+    private Comment comment;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        User author = User.builder().id(1L).email("a@example.com").password("pw").username("작성자").build();
+        User reader = User.builder().id(2L).email("b@example.com").password("pw").username("독자").build();
+        post = Post.builder().id(10L).user(author).title("제목").content("내용 ".repeat(40))
+                .viewCount(3).likeCount(2).commentCount(1).createdAt(now).updatedAt(now).build();
+        comment = Comment.builder().id(20L).post(post).user(reader).content("댓글").createdAt(now).updatedAt(now).build();
+        message = Message.builder().id(30L).sender(author).recipient(reader).content("쪽지").createdAt(now).build();
+    }
+
+    @Benchmark
+    public PostDTO post() {
+        return PostService.convertToDTO(post);
+    }
+
+    @Benchmark
+    public CommentDTO comment() {
+        return CommentService.convertToDTO(comment);
+    }
+
+    @Benchmark
+    public MessageDTO message() {
+        return MessageService.toDTO(message);
+    }
+}
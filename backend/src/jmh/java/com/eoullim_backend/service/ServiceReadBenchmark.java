@@ -0,0 +1,66 @@
+package com.eoullim_backend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 서비스 읽기 경로 - 캐시, 트랜잭션, 지표 aspect 를 포함해 운영과 같은 빈을 호출한다
+// 피드 캐시(posts.feed-cache.capacity=1000)에 전부 들어가는 rows=1000 의 게시글 목록은 캐시 경로를 잰다
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class ServiceReadBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private PostService postService;
+    private CommentService commentService;
+    private MessageService messageService;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private int pages;
+    private int commentedPosts;
+
+    @Setup
+    public void setUp(BenchmarkDatabase database) {
+        postService = database.bean(PostService.class);
+        commentService = database.bean(CommentService.class);
+        messageService = database.bean(MessageService.class);
+        pages = Math.max(database.rows / PAGE_SIZE, 1);
+        commentedPosts = database.commentedPosts();
+    }
+
+    @Benchmark
+    public Object getAllPosts() {
+        return postService.getAllPosts();
+    }
+
+    // 임의의 페이지 - 깊은 페이지일수록 OFFSET 비용이 커진다
+    @Benchmark
+    public Object getPostsWithPagination() {
+        return postService.getPostsWithPagination(random.nextInt(pages), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getCommentsByPost() {
+        return commentService.getCommentsByPost(1L + random.nextInt(commentedPosts));
+    }
+
+    // 사용자 한 명이 받은 쪽지 전체 (rows / 100 건)
+    @Benchmark
+    public Object getReceived() {
+        return messageService.getReceived(BenchmarkDatabase.FIRST_USER_ID + random.nextInt(BenchmarkDatabase.USERS));
+    }
+}
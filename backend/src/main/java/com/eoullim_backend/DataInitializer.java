@@ -2,10 +2,12 @@ package com.eoullim_backend;
 
 import com.eoullim_backend.entity.User;
 import com.eoullim_backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class DataInitializer implements CommandLineRunner {
 
@@ -28,7 +30,7 @@ public class DataInitializer implements CommandLineRunner {
                     .build();
             
             userRepository.save(testUser);
-            System.out.println("✅ 테스트 계정 생성됨 - Email: jinyeonge1234@naver.com, Password: password123");
+            log.info("테스트 계정 생성됨 - Email: jinyeonge1234@naver.com");
         }
 
         // 관리자 계정도 생성
@@ -41,7 +43,7 @@ public class DataInitializer implements CommandLineRunner {
                     .build();
             
             userRepository.save(adminUser);
-            System.out.println("✅ 관리자 계정 생성됨 - Email: admin@eoullim.com, Password: admin123");
+            log.info("관리자 계정 생성됨 - Email: admin@eoullim.com");
         }
 
         // 추가 샘플 사용자들
@@ -54,7 +56,7 @@ public class DataInitializer implements CommandLineRunner {
                     .build();
             
             userRepository.save(sampleUser1);
-            System.out.println("✅ 샘플 사용자1 생성됨 - Email: user1@example.com, Password: user123");
+            log.info("샘플 사용자1 생성됨 - Email: user1@example.com");
         }
 
         if (!userRepository.existsByEmail("user2@example.com")) {
@@ -66,9 +68,9 @@ public class DataInitializer implements CommandLineRunner {
                     .build();
             
             userRepository.save(sampleUser2);
-            System.out.println("✅ 샘플 사용자2 생성됨 - Email: user2@example.com, Password: user123");
+            log.info("샘플 사용자2 생성됨 - Email: user2@example.com");
         }
         
-        System.out.println("🎉 데이터 초기화 완료!");
+        log.info("데이터 초기화 완료!");
     }
 }
\ No newline at end of file
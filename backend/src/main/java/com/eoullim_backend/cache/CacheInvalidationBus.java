@@ -0,0 +1,13 @@
+package com.eoullim_backend.cache;
+
+import java.util.function.Consumer;
+
+// 다른 노드의 로컬(L1) 캐시를 무효화하기 위한 메시지 채널
+public interface CacheInvalidationBus {
+
+    // 다른 노드에 무효화 전파 (자기 자신에게는 전달되지 않음)
+    void publish(String cacheName, Object key);
+
+    // 다른 노드에서 온 무효화 메시지 수신
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,7 @@
+package com.eoullim_backend.cache;
+
+import java.io.Serializable;
+
+// 노드 간 캐시 무효화 메시지 (key 가 null 이면 영역 전체)
+public record CacheInvalidationMessage(String sourceNodeId, String cacheName, Object key) implements Serializable {
+}
@@ -0,0 +1,15 @@
+package com.eoullim_backend.cache;
+
+import java.util.function.Consumer;
+
+// 단일 노드 실행용 - 전파할 대상이 없으므로 아무 일도 하지 않는다
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(String cacheName, Object key) {
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+    }
+}
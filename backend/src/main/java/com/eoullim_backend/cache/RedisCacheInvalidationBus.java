@@ -0,0 +1,50 @@
+package com.eoullim_backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Redis pub/sub 기반 무효화 채널 - 모든 노드가 같은 채널을 구독한다
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String channel;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(String channel, RedisTemplate<String, Object> redisTemplate,
+                                     RedisMessageListenerContainer listenerContainer) {
+        this.channel = channel;
+        this.redisTemplate = redisTemplate;
+        RedisSerializer<?> serializer = redisTemplate.getValueSerializer();
+        listenerContainer.addMessageListener((message, pattern) -> {
+            if (serializer.deserialize(message.getBody()) instanceof CacheInvalidationMessage received
+                    && !nodeId.equals(received.sourceNodeId())) {
+                listeners.forEach(listener -> listener.accept(received));
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(channel, new CacheInvalidationMessage(nodeId, cacheName, key));
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드의 L1 은 만료 시간까지 남는다
+            log.warn("캐시 무효화 전파 실패 ({} / {}): {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,37 @@
+package com.eoullim_backend.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+
+// 로컬 캐시 매니저의 각 영역을 같은 이름의 공유 캐시와 묶어 TwoLevelCache 로 제공
+public class TwoLevelCacheManager extends AbstractCacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoLevelCacheManager(CacheManager localCacheManager, CacheManager remoteCacheManager,
+                                CacheInvalidationBus invalidationBus) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(message -> {
+            if (lookupCache(message.cacheName()) instanceof TwoLevelCache cache) {
+                cache.invalidateLocal(message.key());
+            }
+        });
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return localCacheManager.getCacheNames().stream()
+                .map(name -> new TwoLevelCache(
+                        localCacheManager.getCache(name),
+                        remoteCacheManager.getCache(name),
+                        invalidationBus))
+                .toList();
+    }
+}
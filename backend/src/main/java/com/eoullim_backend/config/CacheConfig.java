@@ -1,21 +1,158 @@
 package com.eoullim_backend.config;
 
+import com.eoullim_backend.cache.CacheInvalidationBus;
+import com.eoullim_backend.cache.LocalCacheInvalidationBus;
+import com.eoullim_backend.cache.RedisCacheInvalidationBus;
+import com.eoullim_backend.cache.TwoLevelCache;
+import com.eoullim_backend.cache.TwoLevelCacheManager;
+import com.eoullim_backend.repository.PostRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheRegionProperties.class)
 public class CacheConfig {
 
+    static final List<String> REGIONS = List.of(
+        "posts",      // 게시글 캐시
+        "comments",   // 댓글 캐시
+        "users"       // 사용자 캐시
+    );
+
+    // 영역별 크기/만료/통계를 적용한 Caffeine 캐시 (통계는 /actuator/metrics 의 cache.* 로 노출)
+    // cache.redis.enabled=true 이면 Caffeine 을 L1, Redis 를 L2 로 묶고 무효화를 모든 노드에 전파
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-            "posts",      // 게시글 캐시
-            "comments",   // 댓글 캐시  
-            "users"       // 사용자 캐시
+    public CacheManager cacheManager(CacheRegionProperties properties, PostRepository postRepository,
+                                     CacheInvalidationBus invalidationBus,
+                                     RedisConnectionFactory redisConnectionFactory) {
+        boolean twoLevel = properties.getRedis().isEnabled();
+
+        // refresh-after-write 는 키만으로 값을 다시 읽을 수 있는 영역에만 적용 (L2 사용 시 L1 은 L2 에서 채움)
+        Map<String, CacheLoader<Object, Object>> loaders = twoLevel ? Map.of() : Map.of(
+            "posts", refreshOnly(key -> postRepository.findPostDTOById((Long) key).orElse(null))
         );
+
+        CaffeineCacheManager localCacheManager = new CaffeineCacheManager();
+        for (String name : REGIONS) {
+            CacheRegionProperties.Region region = region(properties, name);
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(region.getMaximumSize())
+                    .expireAfterWrite(region.getExpireAfterWrite())
+                    .recordStats();
+
+            CacheLoader<Object, Object> loader = loaders.get(name);
+            if (region.getRefreshAfterWrite() != null && loader != null) {
+                builder.refreshAfterWrite(region.getRefreshAfterWrite());
+                localCacheManager.registerCustomCache(name, builder.build(loader));
+            } else {
+                if (region.getRefreshAfterWrite() != null) {
+                    log.warn("캐시 영역 '{}' 에는 로더가 없어 refresh-after-write 설정을 무시합니다.", name);
+                }
+                localCacheManager.registerCustomCache(name, builder.build());
+            }
+        }
+
+        if (!twoLevel) {
+            return localCacheManager;
+        }
+        return new TwoLevelCacheManager(localCacheManager,
+                redisCacheManager(properties, redisConnectionFactory), invalidationBus);
+    }
+
+    // L1+L2 캐시도 L1(Caffeine) 통계를 cache.* 로 노출 (L2 적중은 L1 미스로 잡힌다)
+    @Bean
+    @SuppressWarnings("unchecked")
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache(), cache.getName(), tags);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
+    public CacheInvalidationBus redisCacheInvalidationBus(CacheRegionProperties properties,
+                                                          RedisConnectionFactory redisConnectionFactory,
+                                                          RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new JdkSerializationRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        return new RedisCacheInvalidationBus(properties.getRedis().getInvalidationChannel(),
+                redisTemplate, cacheInvalidationListenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.redis", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    // L2 는 영역별 expire-after-write 를 TTL 로 사용
+    private RedisCacheManager redisCacheManager(CacheRegionProperties properties,
+                                                RedisConnectionFactory redisConnectionFactory) {
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        for (String name : REGIONS) {
+            configurations.put(name, RedisCacheConfiguration.defaultCacheConfig()
+                    .prefixCacheNameWith(properties.getRedis().getKeyPrefix())
+                    .entryTtl(region(properties, name).getExpireAfterWrite()));
+        }
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .withInitialCacheConfigurations(configurations)
+                .disableCreateOnMissingCache()
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    // 갱신(reload)에만 쓰는 로더. Spring 은 LoadingCache 조회가 미스이면 load 를 부르므로 load 는 값을 읽지 않고 미스로 두고,
+    // 값은 @Cacheable 메서드가 자기 트랜잭션 안에서 한 번만 읽는다 (없는 id 를 로더와 메서드가 두 번 조회하지 않게)
+    private static CacheLoader<Object, Object> refreshOnly(Function<Object, Object> reader) {
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return null;
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                return reader.apply(key);
+            }
+        };
+    }
+
+    private CacheRegionProperties.Region region(CacheRegionProperties properties, String name) {
+        return properties.getRegions().getOrDefault(name, new CacheRegionProperties.Region());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.eoullim_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 캐시 영역별 설정 (cache.regions.<이름>.*)
+@Data
+@ConfigurationProperties(prefix = "cache")
+public class CacheRegionProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Region {
+        private long maximumSize = 10_000;          // 최대 항목 수 (초과 시 빈도/최근성 기준으로 제거)
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        private Duration refreshAfterWrite;         // 지정 시 만료 전에 백그라운드로 다시 읽음 (로더가 있는 영역만)
+    }
+
+    // 공유 L2(Redis) 캐시 - 여러 노드 배포 시 사용
+    @Data
+    public static class Redis {
+        private boolean enabled = false;
+        private String keyPrefix = "eoullim:cache:";
+        private String invalidationChannel = "eoullim:cache-invalidation";
+    }
+}
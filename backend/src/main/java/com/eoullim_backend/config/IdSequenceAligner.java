@@ -0,0 +1,76 @@
+package com.eoullim_backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 엔티티별 id 시퀀스를 테이블의 MAX(id) 뒤로 맞춘다.
+ * IDENTITY 로 쌓인 기존 DB에 ddl-auto=update 로 시퀀스가 새로 생기면 1 부터 시작해 첫 insert 부터 기본 키가 겹치므로,
+ * 요청을 받기 전에 다음 값을 MAX(id) + 1 이상으로 올린다. 이미 앞서 있으면 건드리지 않으므로 여러 노드가 동시에 떠도 안전하다.
+ * 시퀀스가 없는 DB(MySQL)는 Hibernate 가 <시퀀스>(next_val) 테이블로 대신하므로 그 행을 올리고, 시퀀스가 있는 DB는 RESTART 한다.
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    @PostConstruct
+    public void align() {
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && persister instanceof AbstractEntityPersister entity) {
+                align(dialect, generator.getDatabaseStructure(), entity.getTableName(), entity.getIdentifierColumnNames()[0]);
+            }
+        });
+    }
+
+    private void align(Dialect dialect, DatabaseStructure structure, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        long required = maxId + 1;
+        String sequence = structure.getPhysicalName().getObjectName().render(dialect);
+
+        if (structure.isPhysicalSequence()) {
+            // 다음 값을 하나 받아 본다 (받은 값의 구간은 버려지지만 id 에 빈 번호가 생길 뿐이다)
+            Long next = jdbcTemplate.queryForObject(
+                    dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+            if (next != null && next < required) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+                log.info("id 시퀀스 {} 를 {} 에서 {} 로 올림 ({} 의 MAX(id) = {})", sequence, next, required, table, maxId);
+            }
+            return;
+        }
+
+        String column = SequenceStyleGenerator.DEF_VALUE_COLUMN;
+        List<Long> current = jdbcTemplate.queryForList("SELECT " + column + " FROM " + sequence, Long.class);
+        if (current.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + sequence + " (" + column + ") VALUES (?)", required);
+            log.info("id 시퀀스 테이블 {} 를 {} 로 초기화 ({} 의 MAX(id) = {})", sequence, required, table, maxId);
+        } else if (current.get(0) < required) {
+            jdbcTemplate.update("UPDATE " + sequence + " SET " + column + " = ? WHERE " + column + " < ?",
+                    required, required);
+            log.info("id 시퀀스 테이블 {} 를 {} 에서 {} 로 올림 ({} 의 MAX(id) = {})",
+                    sequence, current.get(0), required, table, maxId);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.eoullim_backend.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 응답을 오래 흘려 보내는 엔드포인트(내보내기, NDJSON 스트림)의 비동기 요청 제한 시간을 streaming.request-timeout 으로 바꾼다.
+ * 선언하지 않은 엔드포인트는 spring.mvc.async.request-timeout (미지정 시 서블릿 컨테이너 기본값, Tomcat 30초)을 쓴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StreamingTimeout {
+}
@@ -0,0 +1,60 @@
+package com.eoullim_backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * @StreamingTimeout 엔드포인트의 비동기 요청 제한 시간을 적용한다.
+ * 제한 시간은 비동기 처리를 시작할 때 정해지므로, 핸들러 전에 대상 요청을 표시해 두었다가
+ * 비동기 처리 직전(StreamingResponseBody 는 Callable, Flux/ResponseBodyEmitter 는 DeferredResult 경로)에 바꾼다.
+ */
+@Component
+public class StreamingTimeoutInterceptor
+        implements HandlerInterceptor, CallableProcessingInterceptor, DeferredResultProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = StreamingTimeoutInterceptor.class.getName() + ".timeout";
+
+    private final long timeoutMillis;
+
+    public StreamingTimeoutInterceptor(@Value("${streaming.request-timeout:1h}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method && method.hasMethodAnnotation(StreamingTimeout.class)) {
+            request.setAttribute(TIMEOUT_ATTRIBUTE, timeoutMillis);
+        }
+        return true;
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        applyTimeout(request);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, DeferredResult<T> deferredResult) {
+        applyTimeout(request);
+    }
+
+    private void applyTimeout(NativeWebRequest request) {
+        Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timeout instanceof Long millis && request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(millis);
+        }
+    }
+}
@@ -1,16 +1,37 @@
 package com.eoullim_backend.config;
 
+import com.eoullim_backend.metrics.StatementBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final StatementBudgetInterceptor statementBudgetInterceptor;
+    private final StreamingTimeoutInterceptor streamingTimeoutInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementBudgetInterceptor).addPathPatterns("/api/**");
+        registry.addInterceptor(streamingTimeoutInterceptor).addPathPatterns("/api/**");
+    }
+
+    // @StreamingTimeout 엔드포인트는 비동기 처리를 시작할 때 제한 시간을 바꾼다
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(streamingTimeoutInterceptor);
+        configurer.registerDeferredResultInterceptors(streamingTimeoutInterceptor);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
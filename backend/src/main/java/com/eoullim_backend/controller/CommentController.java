@@ -1,11 +1,15 @@
 package com.eoullim_backend.controller;
 
 import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.metrics.StatementBudget;
+import com.eoullim_backend.service.CommentIngestionQueue;
 import com.eoullim_backend.service.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -14,16 +18,30 @@ import java.util.List;
 public class CommentController {
     
     private final CommentService commentService;
+    private final CommentIngestionQueue commentIngestionQueue;
     
-    // 댓글 생성: POST /api/comments
+    // 댓글 생성: POST /api/comments - 작성 큐를 거쳐 묶음으로 저장
     @PostMapping
-    public ResponseEntity<CommentDTO> createComment(
+    public CompletableFuture<ResponseEntity<CommentDTO>> createComment(
             @RequestParam Long postId,
             @RequestParam Long userId,
             @RequestBody CommentDTO commentDTO) {
+        return commentIngestionQueue.submit(postId, userId, commentDTO.getContent())
+                .handle((comment, e) -> e == null
+                        ? ResponseEntity.ok(comment)
+                        : ResponseEntity.badRequest().<CommentDTO>build());
+    }
+    
+    // 댓글 대량 생성: POST /api/comments/bulk (본문: {"contents": [...]})
+    @PostMapping("/bulk")
+    @StatementBudget(5)
+    public ResponseEntity<List<CommentDTO>> createComments(
+            @RequestParam Long postId,
+            @RequestParam Long userId,
+            @RequestBody BulkCommentRequest request) {
         try {
-            CommentDTO comment = commentService.createComment(postId, userId, commentDTO.getContent());
-            return ResponseEntity.ok(comment);
+            List<CommentDTO> comments = commentService.createComments(postId, userId, request.contents());
+            return ResponseEntity.status(201).body(comments);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
@@ -31,13 +49,29 @@ public class CommentController {
     
     // 게시글의 댓글 조회: GET /api/comments/post/{postId}
     @GetMapping("/post/{postId}")
+    @StatementBudget(1)
     public ResponseEntity<List<CommentDTO>> getCommentsByPost(@PathVariable Long postId) {
         List<CommentDTO> comments = commentService.getCommentsByPost(postId);
         return ResponseEntity.ok(comments);
     }
     
+    // 댓글 스레드 (커서 기반, 작성순): GET /api/comments/post/{postId}/thread?cursor=&size=
+    @GetMapping("/post/{postId}/thread")
+    @StatementBudget(1)
+    public ResponseEntity<CursorSliceDTO<CommentDTO>> getCommentThread(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CommentService.THREAD_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(commentService.getCommentThread(postId, cursor, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 댓글 수정: PUT /api/comments/{id}
     @PutMapping("/{id}")
+    @StatementBudget(3)
     public ResponseEntity<CommentDTO> updateComment(
             @PathVariable Long id,
             @RequestParam Long userId,
@@ -52,6 +86,7 @@ public class CommentController {
     
     // 댓글 삭제: DELETE /api/comments/{id}
     @DeleteMapping("/{id}")
+    @StatementBudget(4)
     public ResponseEntity<Void> deleteComment(
             @PathVariable Long id,
             @RequestParam Long userId) {
@@ -62,4 +97,6 @@ public class CommentController {
             return ResponseEntity.badRequest().build();
         }
     }
+    
+    public record BulkCommentRequest(List<String> contents) {}
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.eoullim_backend.controller;
 
 import com.eoullim_backend.dto.MessageDTO;
+import com.eoullim_backend.metrics.StatementBudget;
 import com.eoullim_backend.service.MessageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ public class MessageController {
 
     // 메시지 보내기: POST /api/messages?senderId=&recipientId=
     @PostMapping
+    @StatementBudget(5)
     public ResponseEntity<?> send(
             @RequestParam Long senderId,
             @RequestParam Long recipientId,
@@ -31,20 +35,92 @@ public class MessageController {
         }
     }
 
+    // 대량 발송: POST /api/messages/bulk?senderId= (본문: [{recipientId, content}, ...])
+    @PostMapping("/bulk")
+    @StatementBudget(4)
+    public ResponseEntity<?> sendAll(@RequestParam Long senderId, @RequestBody List<MessageDTO> messages) {
+        try {
+            return ResponseEntity.status(201).body(messageService.sendAll(senderId, messages));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     // 받은 쪽지: GET /api/messages/received/{userId}
     @GetMapping("/received/{userId}")
+    @StatementBudget(1)
     public ResponseEntity<List<MessageDTO>> received(@PathVariable Long userId) {
         return ResponseEntity.ok(messageService.getReceived(userId));
     }
 
     // 보낸 쪽지: GET /api/messages/sent/{userId}
     @GetMapping("/sent/{userId}")
+    @StatementBudget(1)
     public ResponseEntity<List<MessageDTO>> sent(@PathVariable Long userId) {
         return ResponseEntity.ok(messageService.getSent(userId));
     }
 
+    // 받은 쪽지함 (커서 기반): GET /api/messages/inbox/{userId}?cursor=&size=
+    @GetMapping("/inbox/{userId}")
+    @StatementBudget(1)
+    public ResponseEntity<?> inbox(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(messageService.getInbox(userId, cursor, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // 보낸 쪽지함 (커서 기반): GET /api/messages/outbox/{userId}?cursor=&size=
+    @GetMapping("/outbox/{userId}")
+    @StatementBudget(1)
+    public ResponseEntity<?> outbox(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(messageService.getOutbox(userId, cursor, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // 실시간 수신 (SSE): GET /api/messages/stream/{userId}
+    // 이벤트 - unread: 안 읽은 수, message: 새 쪽지(MessageDTO)
+    @GetMapping(value = "/stream/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long userId) {
+        return messageService.subscribe(userId);
+    }
+
+    // 안 읽은 쪽지 수: GET /api/messages/unread/{userId}
+    @GetMapping("/unread/{userId}")
+    @StatementBudget(1)
+    public ResponseEntity<UnreadResponse> unread(@PathVariable Long userId) {
+        return ResponseEntity.ok(new UnreadResponse(userId, messageService.getUnreadCount(userId)));
+    }
+
+    // 쪽지 읽음 처리: PUT /api/messages/{id}/read?userId=
+    @PutMapping("/{id}/read")
+    @StatementBudget(2)
+    public ResponseEntity<?> markRead(@PathVariable Long id, @RequestParam Long userId) {
+        messageService.markRead(id, userId);
+        return ResponseEntity.ok(new UnreadResponse(userId, messageService.getUnreadCount(userId)));
+    }
+
+    // 받은 쪽지 모두 읽음 처리: PUT /api/messages/read/{userId}
+    @PutMapping("/read/{userId}")
+    @StatementBudget(2)
+    public ResponseEntity<?> markAllRead(@PathVariable Long userId) {
+        messageService.markAllRead(userId);
+        return ResponseEntity.ok(new UnreadResponse(userId, messageService.getUnreadCount(userId)));
+    }
+
     // 메시지 삭제: DELETE /api/messages/{id}?userId=
     @DeleteMapping("/{id}")
+    @StatementBudget(2)
     public ResponseEntity<?> delete(@PathVariable Long id, @RequestParam Long userId) {
         try {
             messageService.delete(id, userId);
@@ -57,4 +133,5 @@ public class MessageController {
     // 간단한 요청/응답 보조 클래스들
     public record ContentRequest(String content) {}
     public record ErrorResponse(String error) {}
+    public record UnreadResponse(Long userId, long unreadCount) {}
 }
@@ -1,17 +1,29 @@
 package com.eoullim_backend.controller;
 
+import com.eoullim_backend.config.StreamingTimeout;
+import com.eoullim_backend.counter.PostCounters;
 import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.CursorSliceDTO;
 import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.dto.PostLikeDTO;
 import com.eoullim_backend.dto.PostRequestDTO;
-import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.metrics.StatementBudget;
+import com.eoullim_backend.service.CommentIngestionQueue;
 import com.eoullim_backend.service.CommentService;
+import com.eoullim_backend.service.PostExportService;
 import com.eoullim_backend.service.PostService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
@@ -20,12 +32,16 @@ public class PostController {
     
     private final PostService postService;
     private final CommentService commentService;
+    private final CommentIngestionQueue commentIngestionQueue;
+    private final PostCounters postCounters;
+    private final PostExportService postExportService;
     
     // 게시글 생성: POST /api/posts
     @PostMapping
+    @StatementBudget(4)
     public ResponseEntity<?> createPost(@RequestBody PostRequestDTO requestDTO) {
         try {
-            System.out.println("Request DTO: " + requestDTO); // 디버그 로그
+            log.debug("게시글 작성 요청: {}", requestDTO);
             if (requestDTO.getUserId() == null) {
                 return ResponseEntity.badRequest().body("UserId is required");
             }
@@ -39,20 +55,33 @@ public class PostController {
             PostDTO post = postService.createPost(requestDTO.getUserId(), requestDTO);
             return ResponseEntity.ok(post);
         } catch (RuntimeException e) {
-            System.out.println("Error: " + e.getMessage()); // 디버그 로그
+            log.debug("게시글 작성 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
         }
     }
     
     // 모든 게시글 조회: GET /api/posts
     @GetMapping
+    @StatementBudget(2)
     public ResponseEntity<List<PostDTO>> getAllPosts() {
         List<PostDTO> posts = postService.getAllPosts();
         return ResponseEntity.ok(posts);
     }
     
+    // 전체 게시글 내보내기 (NDJSON, 한 줄에 게시글 하나): GET /api/posts/export
+    // 목록을 만들지 않고 DB에서 읽는 대로 응답에 쓴다. 수백 MB 를 보내므로 기본 비동기 제한 시간 대신 streaming.request-timeout
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @StreamingTimeout
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .body(postExportService::exportPosts);
+    }
+    
     // 페이지네이션으로 게시글 조회: GET /api/posts/page
     @GetMapping("/page")
+    @StatementBudget(3)
     public ResponseEntity<Page<PostDTO>> getPostsWithPagination(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -60,11 +89,60 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
     
+    // 커서 기반 피드 조회: GET /api/posts/feed?cursor=&size=
+    @GetMapping("/feed")
+    @StatementBudget(3)
+    public ResponseEntity<CursorSliceDTO<PostDTO>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(postService.getFeed(cursor, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 제목/내용 검색 (관련도순): GET /api/posts/search?q=&page=0&size=10
+    @GetMapping("/search")
+    @StatementBudget(1)
+    public ResponseEntity<Page<PostDTO>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(postService.searchPosts(q, page, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 인기 게시글: GET /api/posts/trending?limit=
+    @GetMapping("/trending")
+    @StatementBudget(1)
+    public ResponseEntity<List<PostDTO>> getTrendingPosts(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(postService.getTrendingPosts(limit));
+    }
+    
+    // 조회수/좋아요 순 상위 게시글: GET /api/posts/top?sort=views|likes&limit=
+    @GetMapping("/top")
+    @StatementBudget(1)
+    public ResponseEntity<List<PostDTO>> getTopPosts(
+            @RequestParam(defaultValue = "views") String sort,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(postService.getTopPosts(sort, limit));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 게시글 단일 조회: GET /api/posts/{id}
     @GetMapping("/{id}")
+    @StatementBudget(1)
     public ResponseEntity<PostDTO> getPost(@PathVariable Long id) {
         try {
-            PostDTO post = postService.getPost(id);
+            // 캐시 적중 여부와 관계없이 조회수 기록
+            PostDTO post = postCounters.recordView(() -> postService.getPost(id));
             return ResponseEntity.ok(post);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -73,6 +151,7 @@ public class PostController {
     
     // 사용자별 게시글 조회: GET /api/posts/user/{userId}
     @GetMapping("/user/{userId}")
+    @StatementBudget(1)
     public ResponseEntity<List<PostDTO>> getUserPosts(@PathVariable Long userId) {
         List<PostDTO> posts = postService.getUserPosts(userId);
         return ResponseEntity.ok(posts);
@@ -80,6 +159,7 @@ public class PostController {
     
     // 게시글 수정: PUT /api/posts/{id}
     @PutMapping("/{id}")
+    @StatementBudget(3)
     public ResponseEntity<PostDTO> updatePost(
             @PathVariable Long id,
             @RequestBody PostRequestDTO requestDTO) {
@@ -93,6 +173,7 @@ public class PostController {
     
     // 게시글 삭제: DELETE /api/posts/{id}
     @DeleteMapping("/{id}")
+    @StatementBudget(5)
     public ResponseEntity<Void> deletePost(
             @PathVariable Long id,
             @RequestParam Long userId) {
@@ -106,6 +187,7 @@ public class PostController {
     
     // 게시글의 댓글 조회: GET /api/posts/{postId}/comments
     @GetMapping("/{postId}/comments")
+    @StatementBudget(1)
     public ResponseEntity<List<CommentDTO>> getCommentsByPost(@PathVariable Long postId) {
         try {
             List<CommentDTO> comments = commentService.getCommentsByPost(postId);
@@ -116,25 +198,60 @@ public class PostController {
     }
     
     // 게시글에 댓글 작성: POST /api/posts/{postId}/comments
+    // 작성 큐에서 다른 요청과 묶여 저장되고, 커밋되면 응답한다 (요청 스레드는 기다리지 않음)
     @PostMapping("/{postId}/comments")
-    public ResponseEntity<CommentDTO> createComment(
+    public CompletableFuture<ResponseEntity<CommentDTO>> createComment(
             @PathVariable Long postId,
             @RequestBody CommentDTO commentDTO) {
-        try {
-            CommentDTO comment = commentService.createComment(postId, commentDTO.getUserId(), commentDTO.getContent());
-            return ResponseEntity.status(201).body(comment);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().build();
-        }
+        return commentIngestionQueue.submit(postId, commentDTO.getUserId(), commentDTO.getContent())
+                .handle((comment, e) -> e == null
+                        ? ResponseEntity.status(201).body(comment)
+                        : ResponseEntity.badRequest().<CommentDTO>build());
     }
     
+    // 좋아요 토글: POST /api/posts/{id}/like?userId=
     @PostMapping("/{id}/like")
+    @StatementBudget(4)
     public ResponseEntity<?> toggleLike(@PathVariable Long id, @RequestParam Long userId) {
         try {
-            Post post = postService.toggleLike(id, userId);
-            return ResponseEntity.ok(post);
+            return ResponseEntity.ok(likeResult(id, userId, postService.toggleLike(id, userId)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("좋아요 처리에 실패했습니다");
+        }
+    }
+    
+    // 좋아요 (여러 번 호출해도 결과 동일): PUT /api/posts/{id}/like?userId=
+    @PutMapping("/{id}/like")
+    @StatementBudget(4)
+    public ResponseEntity<?> like(@PathVariable Long id, @RequestParam Long userId) {
+        try {
+            postService.like(id, userId);
+            return ResponseEntity.ok(likeResult(id, userId, true));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("좋아요 처리에 실패했습니다");
         }
     }
+    
+    // 좋아요 취소 (여러 번 호출해도 결과 동일): DELETE /api/posts/{id}/like?userId=
+    @DeleteMapping("/{id}/like")
+    @StatementBudget(4)
+    public ResponseEntity<?> unlike(@PathVariable Long id, @RequestParam Long userId) {
+        try {
+            postService.unlike(id, userId);
+            return ResponseEntity.ok(likeResult(id, userId, false));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("좋아요 처리에 실패했습니다");
+        }
+    }
+    
+    // 아직 DB에 반영되지 않은 좋아요 증분까지 포함한 결과
+    private PostLikeDTO likeResult(Long postId, Long userId, boolean liked) {
+        PostDTO post = postCounters.withPendingCounts(() -> postService.getPost(postId));
+        return PostLikeDTO.builder()
+                .postId(postId)
+                .userId(userId)
+                .liked(liked)
+                .likeCount(post.getLikeCount())
+                .build();
+    }
 }
\ No newline at end of file
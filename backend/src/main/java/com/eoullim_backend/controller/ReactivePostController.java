@@ -0,0 +1,68 @@
+package com.eoullim_backend.controller;
+
+import com.eoullim_backend.config.StreamingTimeout;
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.service.CommentService;
+import com.eoullim_backend.service.ReactiveReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// 리액티브 읽기 API - 응답 형태는 /api/posts, /api/comments 와 같다
+@RestController
+@RequestMapping("/api/reactive")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3001")
+public class ReactivePostController {
+
+    private final ReactiveReadService reactiveReadService;
+
+    // 게시글 조회: GET /api/reactive/posts/{id}
+    @GetMapping("/posts/{id}")
+    public Mono<ResponseEntity<PostDTO>> getPost(@PathVariable Long id) {
+        return reactiveReadService.getPost(id)
+                .map(ResponseEntity::ok)
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    // 피드 (커서 기반): GET /api/reactive/posts?cursor=&size=
+    @GetMapping("/posts")
+    public Mono<ResponseEntity<CursorSliceDTO<PostDTO>>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return reactiveReadService.getFeed(cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    // 전체 피드 스트리밍 (NDJSON, 한 줄에 게시글 하나): GET /api/reactive/posts/stream
+    // 느린 클라이언트에 큰 결과를 오래 흘려 보내므로 제한 시간은 streaming.request-timeout
+    @GetMapping(value = "/posts/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @StreamingTimeout
+    public Flux<PostDTO> streamFeed() {
+        return reactiveReadService.streamFeed();
+    }
+
+    // 댓글 스레드 (커서 기반): GET /api/reactive/posts/{postId}/comments?cursor=&size=
+    @GetMapping("/posts/{postId}/comments")
+    public Mono<ResponseEntity<CursorSliceDTO<CommentDTO>>> getCommentThread(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + CommentService.THREAD_PAGE_SIZE) int size) {
+        return reactiveReadService.getCommentThread(postId, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorResume(RuntimeException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    // 댓글 전체 스트리밍 (NDJSON): GET /api/reactive/posts/{postId}/comments/stream
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @StreamingTimeout
+    public Flux<CommentDTO> streamComments(@PathVariable Long postId) {
+        return reactiveReadService.streamComments(postId);
+    }
+}
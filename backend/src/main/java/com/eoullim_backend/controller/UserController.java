@@ -1,8 +1,10 @@
 package com.eoullim_backend.controller;
 
+import com.eoullim_backend.dto.AccountDeletionJobDTO;
 import com.eoullim_backend.dto.UserDTO;
 import com.eoullim_backend.dto.UserRequestDTO;
 import com.eoullim_backend.dto.LoginRequestDTO;
+import com.eoullim_backend.service.AccountDeletionService;
 import com.eoullim_backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +18,7 @@ import java.util.Optional;
 public class UserController {
     
     private final UserService userService;
+    private final AccountDeletionService accountDeletionService;
     
     // 회원가입: POST /api/users/signup (구체적인 경로를 먼저)
     @PostMapping("/signup")
@@ -101,6 +104,25 @@ public class UserController {
         }
     }
     
+    // 계정 삭제 작업 등록 (비동기, 청크 단위 삭제): POST /api/users/{id}/deletion
+    @PostMapping("/{id}/deletion")
+    public ResponseEntity<AccountDeletionJobDTO> requestDeletion(@PathVariable Long id) {
+        try {
+            return ResponseEntity.accepted().body(accountDeletionService.requestDeletion(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    // 계정 삭제 작업 진행 상황: GET /api/users/deletion/{jobId}
+    // 작업 상태는 요청을 받은 노드 메모리에만 있으므로 다른 노드에서는 404
+    @GetMapping("/deletion/{jobId}")
+    public ResponseEntity<AccountDeletionJobDTO> getDeletionJob(@PathVariable String jobId) {
+        return accountDeletionService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     // 사용자 삭제: DELETE /api/users/{id}
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
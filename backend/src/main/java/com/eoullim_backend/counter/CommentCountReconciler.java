@@ -0,0 +1,47 @@
+package com.eoullim_backend.counter;
+
+import com.eoullim_backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * posts.comment_count 를 comments 테이블의 실제 COUNT(*) 와 맞춰주는 백그라운드 보정 작업.
+ * id 순서로 청크 단위 트랜잭션을 나눠 실행하므로 한 번에 오래 락을 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${posts.comment-count.reconcile-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${posts.comment-count.reconcile-interval-ms:600000}",
+               fixedDelayString = "${posts.comment-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long afterId = 0L;
+        int repaired = 0;
+        while (true) {
+            List<Long> ids = postRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer updated = transactionTemplate.execute(status -> postRepository.reconcileCommentCounts(ids));
+            repaired += updated != null ? updated : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (repaired > 0) {
+            log.info("댓글 수 보정 완료: {}건", repaired);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.eoullim_backend.counter;
+
+import com.eoullim_backend.dto.CountDrift;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보정 작업의 후보 목록.
+ * 집계 컬럼이 원본과 다른 행을 한 번 본 것만으로는 고치지 않는다 - 다른 노드에 반영 전 증분이 있으면 곧 더해지기 때문이다.
+ * 다음 실행에서 저장된 값과 실제 값이 모두 그대로일 때만 보정 대상으로 돌려준다.
+ * 보정 주기는 flush 주기보다 훨씬 길어서, 그 사이 어느 노드의 증분이든 DB에 반영되면 저장된 값이 달라져 후보에서 빠진다.
+ */
+class DriftCandidates {
+
+    private Map<Long, CountDrift> previous = new HashMap<>();
+    private Map<Long, CountDrift> current = new HashMap<>();
+
+    // 지난 실행과 같은 차이는 보정 대상으로 반환하고, 나머지는 다음 실행의 후보로 남긴다
+    List<CountDrift> confirm(List<CountDrift> observed) {
+        List<CountDrift> confirmed = new ArrayList<>();
+        for (CountDrift drift : observed) {
+            if (drift.equals(previous.get(drift.id()))) {
+                confirmed.add(drift);
+            } else {
+                current.put(drift.id(), drift);
+            }
+        }
+        return confirmed;
+    }
+
+    // 실행 종료 - 이번에 다시 보지 못한 후보는 버린다
+    void finishRun() {
+        previous = current;
+        current = new HashMap<>();
+    }
+}
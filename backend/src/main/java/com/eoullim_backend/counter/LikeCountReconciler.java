@@ -0,0 +1,60 @@
+package com.eoullim_backend.counter;
+
+import com.eoullim_backend.dto.CountDrift;
+import com.eoullim_backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * posts.like_count 를 post_likes 의 실제 COUNT(*) 와 맞춰주는 백그라운드 보정 작업.
+ * like_count 는 write-behind 라 노드가 비정상 종료되면 반영 전 증분이 사라지므로, 원본인 post_likes 기준으로 되돌린다.
+ * 반영 전 증분이 있는 게시글을 덮어쓰면 증분이 나중에 한 번 더 더해지므로,
+ * 이 노드의 증분은 건너뛰고 다른 노드의 증분은 두 번의 실행에 걸쳐 같은 차이가 남아 있는지로 걸러낸다 (DriftCandidates).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+
+    private final PostRepository postRepository;
+    private final PostCounters postCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final DriftCandidates candidates = new DriftCandidates();
+
+    @Value("${posts.like-count.reconcile-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${posts.like-count.reconcile-interval-ms:600000}",
+               fixedDelayString = "${posts.like-count.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        long afterId = 0L;
+        int repaired = 0;
+        while (true) {
+            List<Long> ids = postRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            List<Long> settled = ids.stream().filter(id -> !postCounters.hasPendingLikes(id)).toList();
+            if (settled.isEmpty()) {
+                continue;
+            }
+            for (CountDrift drift : candidates.confirm(postRepository.findLikeCountDrifts(settled))) {
+                Integer updated = transactionTemplate.execute(status -> postRepository.repairLikeCount(
+                        drift.id(), drift.stored(), drift.actual().intValue()));
+                repaired += updated != null ? updated : 0;
+            }
+        }
+        candidates.finishRun();
+        if (repaired > 0) {
+            log.info("좋아요 수 보정 완료: {}건", repaired);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.eoullim_backend.counter;
+
+import com.eoullim_backend.cache.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 안 읽은 쪽지 수.
+ * 값은 메모리(Caffeine)에 두고 배지 조회는 쿼리 없이 응답하며,
+ * users.unread_message_count 에는 PostCounters 와 같은 write-behind 방식으로 모아서 반영한다.
+ * 증분은 반영한 노드의 메모리에만 있으므로, DB에 반영되거나 보정되면 다른 노드에 해당 사용자 무효화를 전파한다.
+ */
+@Slf4j
+@Component
+public class MessageCounters {
+
+    static final String REGION = "messages.unread";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final WriteBehindCounter unread = new WriteBehindCounter("users", "unread_message_count", true);
+    private final Cache<Long, Long> counts;
+    // 적재와 반영을 배타적으로 실행 (JDBC 대기를 포함하므로 synchronized 대신 락)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public MessageCounters(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                           CacheInvalidationBus invalidationBus,
+                           @Value("${messages.unread.cache-size:100000}") long cacheSize,
+                           @Value("${messages.unread.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.invalidationBus = invalidationBus;
+        // 무효화 전파가 유실돼도 자주 조회하는 사용자의 값이 계속 남지 않도록 쓰기 기준으로 만료
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        invalidationBus.subscribe(message -> {
+            if (REGION.equals(message.cacheName())) {
+                if (message.key() == null) {
+                    counts.invalidateAll();
+                } else {
+                    counts.invalidate(((Number) message.key()).longValue());
+                }
+            }
+        });
+        // Spring 캐시(cache.*)와 태그 키를 맞춘다 - Prometheus 는 이름이 같은 지표의 태그 키가 다르면 뒤에 온 것을 버린다
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, REGION,
+                "cache.manager", "messageCounters", "name", REGION);
+    }
+
+    public long unreadCount(Long userId) {
+        return counts.get(userId, this::load);
+    }
+
+    // 안 읽은 수 변경 후 현재 값 반환. 같은 사용자의 적재/변경은 캐시의 키 단위 락으로 직렬화된다
+    public long adjust(Long userId, long delta) {
+        Long adjusted = counts.asMap().compute(userId, (key, current) -> {
+            unread.add(key, delta);
+            return current == null ? null : Math.max(0, current + delta);
+        });
+        return adjusted != null ? adjusted : unreadCount(userId);
+    }
+
+    // 아직 DB에 반영하지 않은 증분이 있는지 (UnreadCountReconciler 가 보정에서 제외)
+    public boolean hasPending(Long userId) {
+        return unread.pending(userId) != 0;
+    }
+
+    // 보정된 사용자의 메모리 값을 버려 다음 조회 때 DB에서 다시 읽게 한다
+    public void invalidate(Collection<Long> userIds) {
+        counts.invalidateAll(userIds);
+        userIds.forEach(userId -> invalidationBus.publish(REGION, userId));
+    }
+
+    // 대량 변경(회원 탈퇴 등) 커밋 후 메모리 값을 버리고 다음 조회 때 DB에서 다시 읽는다
+    public void invalidateAll() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counts.invalidateAll();
+            invalidationBus.publish(REGION, null);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counts.invalidateAll();
+                invalidationBus.publish(REGION, null);
+            }
+        });
+    }
+
+    // DB 값 + 아직 반영되지 않은 증분. 반영 도중에 읽으면 이중 계산되므로 flush 와 배타적으로 실행
+    private long load(Long userId) {
+        lock.lock();
+        try {
+            long persisted;
+            try {
+                Integer value = jdbcTemplate.queryForObject(
+                        "SELECT unread_message_count FROM users WHERE id = ?", Integer.class, userId);
+                persisted = value == null ? 0 : value;
+            } catch (EmptyResultDataAccessException e) {
+                persisted = 0;
+            }
+            return Math.max(0, persisted + unread.pending(userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${messages.unread.flush-interval-ms:1000}")
+    public void flush() {
+        lock.lock();
+        try {
+            Map<Long, Long> deltas = unread.snapshot();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            List<Object[]> batch = new ArrayList<>(deltas.size());
+            deltas.forEach((id, delta) -> batch.add(new Object[]{delta, id}));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(unread.getUpdateSql(), batch));
+            } catch (RuntimeException e) {
+                log.warn("안 읽은 쪽지 수 반영 실패 ({}건), 다음 주기에 재시도: {}", deltas.size(), e.getMessage());
+                return;
+            }
+            unread.acknowledge(deltas);
+            // 다른 노드는 이 노드의 증분을 DB에 반영된 뒤에야 읽을 수 있으므로 반영 후에 무효화한다
+            deltas.keySet().forEach(userId -> invalidationBus.publish(REGION, userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
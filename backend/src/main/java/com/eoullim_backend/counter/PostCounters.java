@@ -0,0 +1,172 @@
+package com.eoullim_backend.counter;
+
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.service.PostFeedCache;
+import com.eoullim_backend.service.PostLeaderboard;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 조회수/좋아요 수 write-behind 카운터.
+ * 요청 시에는 메모리에만 기록하고, posts.counters.flush-interval-ms 주기로 모아서 UPDATE 한다.
+ * 인기 게시글에 요청이 몰려도 posts 행 락을 요청마다 잡지 않으며,
+ * 노드가 비정상 종료되면 최대 한 주기 분량의 증분만 유실된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounters {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final PostFeedCache postFeedCache;
+    private final PostLeaderboard postLeaderboard;
+
+    private final WriteBehindCounter views = new WriteBehindCounter("posts", "view_count");
+    private final WriteBehindCounter likes = new WriteBehindCounter("posts", "like_count");
+    // 주기 반영과 종료 시 반영이 겹치지 않게 한다. synchronized 와 달리 가상 스레드에서 JDBC 대기 중에도 캐리어 스레드를 붙잡지 않는다
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // DB 값 + 미반영 증분을 합치는 읽기와, 반영 커밋 ~ 증분 확정/캐시 제거 구간을 배타적으로 실행
+    // (커밋된 행과 아직 확정하지 않은 증분을 함께 보면 증분이 두 번 더해진다)
+    private final ReentrantReadWriteLock visibility = new ReentrantReadWriteLock();
+
+    // 게시글을 읽고 조회수 1 증가 후, 아직 반영되지 않은 증분까지 포함한 DTO 반환 (캐시 객체는 건드리지 않음)
+    public PostDTO recordView(Supplier<PostDTO> read) {
+        PostDTO viewed;
+        visibility.readLock().lock();
+        try {
+            PostDTO post = read.get();
+            views.add(post.getId(), 1);
+            viewed = applyPending(post);
+        } finally {
+            visibility.readLock().unlock();
+        }
+        postLeaderboard.viewed(viewed);
+        return viewed;
+    }
+
+    public void recordLike(Long postId, int delta) {
+        likes.add(postId, delta);
+        postLeaderboard.liked(postId, delta);
+    }
+
+    // 아직 DB에 반영하지 않은 좋아요 증분이 있는지 (LikeCountReconciler 가 보정에서 제외)
+    public boolean hasPendingLikes(Long postId) {
+        return likes.pending(postId) != 0;
+    }
+
+    // 게시글을 읽고 아직 반영되지 않은 증분을 더한다. 읽기와 증분 조회 사이에 반영이 끼어들지 않게 read 를 받는다
+    public PostDTO withPendingCounts(Supplier<PostDTO> read) {
+        visibility.readLock().lock();
+        try {
+            return applyPending(read.get());
+        } finally {
+            visibility.readLock().unlock();
+        }
+    }
+
+    private PostDTO applyPending(PostDTO post) {
+        long pendingViews = views.pending(post.getId());
+        long pendingLikes = likes.pending(post.getId());
+        if (pendingViews == 0 && pendingLikes == 0) {
+            return post;
+        }
+        return post.toBuilder()
+                .viewCount((int) (post.getViewCount() + pendingViews))
+                .likeCount((int) (post.getLikeCount() + pendingLikes))
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.counters.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<Long, Long> viewDeltas = views.snapshot();
+        Map<Long, Long> likeDeltas = likes.snapshot();
+        if (viewDeltas.isEmpty() && likeDeltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchUpdate(views, viewDeltas);
+                batchUpdate(likes, likeDeltas);
+                postFeedCache.countersFlushed(viewDeltas, likeDeltas);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void beforeCommit(boolean readOnly) {
+                        visibility.writeLock().lock();
+                    }
+
+                    // 커밋과 같은 구간에서 증분을 확정하고, 캐시된 게시글이 DB에 반영된 값을 다시 읽도록 제거
+                    @Override
+                    public void afterCommit() {
+                        views.acknowledge(viewDeltas);
+                        likes.acknowledge(likeDeltas);
+                        evictPosts(viewDeltas, likeDeltas);
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (visibility.isWriteLockedByCurrentThread()) {
+                            visibility.writeLock().unlock();
+                        }
+                    }
+                });
+            });
+        } catch (RuntimeException e) {
+            // 확정하지 않은 증분은 다음 주기에 다시 반영된다
+            log.warn("카운터 반영 실패 (조회수 {}건, 좋아요 {}건), 다음 주기에 재시도: {}",
+                    viewDeltas.size(), likeDeltas.size(), e.getMessage());
+        }
+    }
+
+    private void evictPosts(Map<Long, Long> viewDeltas, Map<Long, Long> likeDeltas) {
+        Cache posts = cacheManager.getCache("posts");
+        if (posts != null) {
+            Set<Long> flushed = new HashSet<>(viewDeltas.keySet());
+            flushed.addAll(likeDeltas.keySet());
+            flushed.forEach(posts::evict);
+        }
+    }
+
+    private void batchUpdate(WriteBehindCounter counter, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> batch.add(new Object[]{delta, id}));
+        jdbcTemplate.batchUpdate(counter.getUpdateSql(), batch);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,154 @@
+package com.eoullim_backend.counter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 점수 상위 capacity 개만 유지하는 순위표.
+ * 점수순 스킵 리스트와 id 맵을 함께 두어 갱신/삭제/최저점 확인이 모두 O(log n) 이다.
+ * 같은 id 의 갱신은 맵의 compute 로 직렬화하고, 서로 다른 id 는 락 없이 동시에 갱신된다.
+ */
+public class TopKRanking<T> {
+
+    // 점수 내림차순, 동점이면 id 내림차순 (최신 글 우선)
+    private static final Comparator<Entry<?>> HIGHEST_FIRST = Comparator
+            .comparingDouble((Entry<?> entry) -> entry.score())
+            .thenComparingLong(Entry::id)
+            .reversed();
+
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry<T>> order = new ConcurrentSkipListSet<>(HIGHEST_FIRST);
+    private final ConcurrentHashMap<Long, Entry<T>> entries = new ConcurrentHashMap<>();
+    // 갱신은 읽기 락, 전체 점수 재조정(rescale)만 쓰기 락
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TopKRanking(int capacity) {
+        this.capacity = capacity;
+    }
+
+    // 점수를 지정. 순위표가 가득 찼고 최저점보다 낮으면 들어가지 못한다
+    public void put(Long id, double score, T value) {
+        compute(id, current -> new Entry<>(id, score, value));
+    }
+
+    // 점수에 delta 를 더함. 없으면 delta 점으로 새로 넣는다
+    public void add(Long id, double delta, T value) {
+        compute(id, current -> new Entry<>(id, current == null ? delta : current.score() + delta, value));
+    }
+
+    // 이미 순위표에 있는 항목만 변경 (점수와 값 모두)
+    public void update(Long id, UnaryOperator<Entry<T>> change) {
+        compute(id, current -> current == null ? null : change.apply(current));
+    }
+
+    public void remove(Long id) {
+        compute(id, current -> null);
+    }
+
+    public Optional<Entry<T>> get(Long id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    // 상위 limit 개. 갱신 도중 같은 id 가 잠깐 두 번 보일 수 있어 걸러낸다
+    public List<Entry<T>> top(int limit) {
+        List<Entry<T>> result = new ArrayList<>(Math.min(limit, capacity));
+        Set<Long> seen = new HashSet<>();
+        for (Entry<T> entry : order) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (seen.add(entry.id())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    // 모든 점수에 factor 를 곱한다 (순서는 그대로)
+    public void rescale(double factor) {
+        lock.writeLock().lock();
+        try {
+            List<Entry<T>> scaled = new ArrayList<>(entries.size());
+            for (Entry<T> entry : entries.values()) {
+                scaled.add(new Entry<>(entry.id(), entry.score() * factor, entry.value()));
+            }
+            order.clear();
+            entries.clear();
+            for (Entry<T> entry : scaled) {
+                entries.put(entry.id(), entry);
+                order.add(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            order.clear();
+            entries.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void compute(Long id, UnaryOperator<Entry<T>> change) {
+        lock.readLock().lock();
+        try {
+            entries.compute(id, (key, current) -> {
+                Entry<T> next = change.apply(current);
+                if (current != null) {
+                    order.remove(current);
+                }
+                if (next == null) {
+                    return null;
+                }
+                if (current == null && entries.size() >= capacity && !beatsLowest(next)) {
+                    return null;
+                }
+                order.add(next);
+                return next;
+            });
+            trim();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean beatsLowest(Entry<T> candidate) {
+        Iterator<Entry<T>> lowest = order.descendingIterator();
+        return !lowest.hasNext() || HIGHEST_FIRST.compare(candidate, lowest.next()) < 0;
+    }
+
+    // 용량 초과분은 최저점부터 밀어낸다
+    private void trim() {
+        while (entries.size() > capacity) {
+            Entry<T> lowest = order.pollLast();
+            if (lowest == null) {
+                return;
+            }
+            entries.remove(lowest.id(), lowest);
+        }
+    }
+
+    public record Entry<T>(long id, double score, T value) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.eoullim_backend.counter;
+
+import com.eoullim_backend.dto.CountDrift;
+import com.eoullim_backend.event.DomainEvent;
+import com.eoullim_backend.repository.OutboxEventRepository;
+import com.eoullim_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * users.unread_message_count 를 messages 의 실제 안 읽은 수(read_at IS NULL)와 맞춰주는 보정 작업.
+ * 컬럼이 추가되기 전에 쌓인 쪽지(기존 DB)를 채워 넣고, 비정상 종료로 유실된 write-behind 증분도 되돌린다.
+ * 기동 직후 한 번 돌고 이후 주기적으로 실행하며, 사용자 id 청크마다 다른 행만 고치고 그 사용자의 메모리 값을 버린다.
+ * 아직 전달되지 않은 쪽지 이벤트나 이 노드의 반영 전 증분이 있으면 보정 뒤에 다시 더해지므로 그 사용자(청크)는 다음 주기로 미룬다.
+ * 다른 노드의 반영 전 증분은 두 번의 실행에 걸쳐 같은 차이가 남아 있는지로 걸러내므로 (DriftCandidates), 기존 쪽지 채우기는 두 번째 실행에서 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconciler {
+
+    private static final List<String> MESSAGE_EVENTS = List.of(
+            DomainEvent.MessagesSent.class.getSimpleName(), DomainEvent.MessagesRead.class.getSimpleName());
+
+    private final UserRepository userRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessageCounters messageCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final DriftCandidates candidates = new DriftCandidates();
+
+    @Value("${messages.unread.reconcile-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${messages.unread.reconcile-initial-delay-ms:10000}",
+               fixedDelayString = "${messages.unread.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        long afterId = 0L;
+        int repaired = 0;
+        int deferred = 0;
+        while (true) {
+            List<Long> ids = userRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            if (outboxEventRepository.existsByEventTypeIn(MESSAGE_EVENTS)) {
+                deferred += ids.size();
+                continue;
+            }
+            List<Long> settled = ids.stream().filter(id -> !messageCounters.hasPending(id)).toList();
+            deferred += ids.size() - settled.size();
+            if (settled.isEmpty()) {
+                continue;
+            }
+            List<Long> drifted = new ArrayList<>();
+            for (CountDrift drift : candidates.confirm(userRepository.findUnreadCountDrifts(settled))) {
+                Integer updated = transactionTemplate.execute(status -> userRepository.repairUnreadCount(
+                        drift.id(), drift.stored(), drift.actual().intValue()));
+                if (updated != null && updated > 0) {
+                    drifted.add(drift.id());
+                }
+            }
+            if (!drifted.isEmpty()) {
+                messageCounters.invalidate(drifted);
+                repaired += drifted.size();
+            }
+        }
+        candidates.finishRun();
+        if (repaired > 0) {
+            log.info("안 읽은 쪽지 수 보정 완료: {}건", repaired);
+        }
+        if (deferred > 0) {
+            log.debug("안 읽은 쪽지 수 보정 보류 (전달/반영 대기): {}명", deferred);
+        }
+    }
+}
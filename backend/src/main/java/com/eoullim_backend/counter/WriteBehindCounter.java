@@ -0,0 +1,97 @@
+package com.eoullim_backend.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 행(id)별 증분을 메모리에 모았다가 주기적으로 DB에 반영하는 카운터.
+ * 증가 경로는 락 없이 LongAdder 에만 쓰고, 반영은 플러셔 스레드 하나가 담당한다.
+ */
+public class WriteBehindCounter {
+
+    private final String updateSql;
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public WriteBehindCounter(String table, String column) {
+        this(table, column, false);
+    }
+
+    // nonNegative 이면 반영 결과를 0 아래로 내리지 않는다
+    public WriteBehindCounter(String table, String column, boolean nonNegative) {
+        String updated = column + " + ?";
+        this.updateSql = "UPDATE " + table + " SET " + column + " = "
+                + (nonNegative ? "GREATEST(0, " + updated + ")" : updated) + " WHERE id = ?";
+    }
+
+    public String getUpdateSql() {
+        return updateSql;
+    }
+
+    // 증분 기록 (hot path - 락 없음)
+    public void add(Long id, long delta) {
+        Slot slot = slots.get(id);
+        if (slot != null) {
+            slot.total.add(delta);
+            if (!slot.retired) {
+                return;
+            }
+            // 플러셔가 슬롯을 회수하는 중이었다면 방금 더한 값을 되돌리고 새 슬롯에 기록
+            slot.total.add(-delta);
+        }
+        slots.compute(id, (key, current) -> {
+            Slot target = (current == null || current.retired) ? new Slot() : current;
+            target.total.add(delta);
+            return target;
+        });
+    }
+
+    // 아직 DB에 반영되지 않은 증분
+    public long pending(Long id) {
+        Slot slot = slots.get(id);
+        return slot == null ? 0 : slot.total.sum() - slot.flushed;
+    }
+
+    // 반영할 증분 목록을 만든다. 변화가 없는 슬롯은 이 시점에 회수한다.
+    public Map<Long, Long> snapshot() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, Slot> entry : slots.entrySet()) {
+            Slot slot = entry.getValue();
+            long delta = slot.total.sum() - slot.flushed;
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                slots.computeIfPresent(entry.getKey(), (key, current) -> {
+                    current.retired = true;
+                    if (current.total.sum() == current.flushed) {
+                        return null;
+                    }
+                    current.retired = false;
+                    return current;
+                });
+            }
+        }
+        return deltas;
+    }
+
+    // DB 반영이 커밋된 증분을 확정한다. 실패한 경우 호출하지 않으면 다음 주기에 다시 시도된다.
+    public void acknowledge(Map<Long, Long> flushedDeltas) {
+        flushedDeltas.forEach((id, delta) -> {
+            Slot slot = slots.get(id);
+            if (slot != null) {
+                slot.flushed += delta;
+            }
+        });
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    private static final class Slot {
+        private final LongAdder total = new LongAdder();
+        private volatile long flushed; // 플러셔 스레드만 갱신
+        private volatile boolean retired;
+    }
+}
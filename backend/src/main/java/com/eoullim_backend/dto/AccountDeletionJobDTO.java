@@ -0,0 +1,27 @@
+package com.eoullim_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 계정 삭제 작업 진행 상황
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountDeletionJobDTO {
+    private String jobId;
+    private Long userId;
+    private String status;       // PENDING, RUNNING, COMPLETED, FAILED
+    private String currentStep;  // messages, comments, likes, posts, user
+    private long deletedMessages;
+    private long deletedComments;
+    private long deletedLikes;
+    private long deletedPosts;
+    private String error;
+    private LocalDateTime requestedAt;
+    private LocalDateTime finishedAt;
+}
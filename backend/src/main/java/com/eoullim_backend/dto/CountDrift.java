@@ -0,0 +1,5 @@
+package com.eoullim_backend.dto;
+
+// 보정 작업용 프로젝션 - 저장된 집계 컬럼 값(stored)과 원본 테이블에서 센 값(actual)이 다른 행
+public record CountDrift(Long id, Integer stored, Long actual) {
+}
@@ -0,0 +1,36 @@
+package com.eoullim_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+// 커서 기반 페이지 응답 - 전체 개수 없이 다음 페이지 커서만 전달 (댓글 첫 페이지는 캐시에 저장되므로 직렬화 가능)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorSliceDTO<T> implements Serializable {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorSliceDTO<T> of(Slice<T> slice, Function<T, KeysetCursor> cursorOf) {
+        List<T> content = List.copyOf(slice.getContent());
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return CursorSliceDTO.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
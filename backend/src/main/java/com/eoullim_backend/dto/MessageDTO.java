@@ -19,4 +19,5 @@ public class MessageDTO {
     private String recipientName;
     private String content;
     private LocalDateTime createdAt;
+    private LocalDateTime readAt;
 }
@@ -0,0 +1,17 @@
+package com.eoullim_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLikeDTO {
+    private Long postId;
+    private Long userId;
+    private boolean liked;
+    private Integer likeCount;
+}
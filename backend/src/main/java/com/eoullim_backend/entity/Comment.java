@@ -8,10 +8,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "comments", indexes = {
-    @Index(name = "idx_comment_post_id", columnList = "post_id"),
+    @Index(name = "idx_comment_post_created_at", columnList = "post_id, created_at"),
     @Index(name = "idx_comment_user_id", columnList = "user_id"),
     @Index(name = "idx_comment_created_at", columnList = "created_at")
 })
@@ -22,7 +23,8 @@ import java.time.ZonedDateTime;
 public class Comment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+    @SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,7 +46,8 @@ public class Comment {
     
     @PrePersist
     public void prePersist() {
-        ZonedDateTime kst = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        // 커서(KeysetCursor)와 DB 컬럼 정밀도를 맞추기 위해 마이크로초 단위로 자름
+        ZonedDateTime kst = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).truncatedTo(ChronoUnit.MICROS);
         this.createdAt = kst.toLocalDateTime();
         this.updatedAt = kst.toLocalDateTime();
     }
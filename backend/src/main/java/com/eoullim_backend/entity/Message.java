@@ -7,9 +7,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "messages")
+@Table(name = "messages", indexes = {
+    // 받은/보낸 쪽지함 키셋 조회용 (InnoDB 는 보조 인덱스 끝에 PK(id)를 붙이므로 동률 정렬도 인덱스로 처리)
+    @Index(name = "idx_message_recipient_created_at", columnList = "recipient_id, created_at"),
+    @Index(name = "idx_message_sender_created_at", columnList = "sender_id, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,14 +22,16 @@ import java.time.LocalDateTime;
 public class Message {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "messages_seq")
+    @SequenceGenerator(name = "messages_seq", sequenceName = "messages_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    // 목록 조회는 MessageDTO 프로젝션을 쓰므로 사용자 엔티티는 필요할 때만 로딩
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id", nullable = false)
     private User sender;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "recipient_id", nullable = false)
     private User recipient;
 
@@ -34,8 +41,12 @@ public class Message {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 수신자가 읽은 시각 (null 이면 안 읽음)
+    private LocalDateTime readAt;
+
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now();
+        // 커서(KeysetCursor)와 DB 컬럼 정밀도를 맞추기 위해 마이크로초 단위로 자름
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
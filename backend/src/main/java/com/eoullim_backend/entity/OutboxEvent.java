@@ -0,0 +1,54 @@
+package com.eoullim_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 쓰기 트랜잭션과 함께 저장되는 도메인 이벤트 - OutboxRelay 가 id 순으로 읽어 전달한 뒤 지운다
+@Entity
+@Table(name = "outbox_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    
+    // 다른 엔티티와 달리 IDENTITY - id 가 insert 시점(쓰기의 행 잠금 이후)에 정해져야
+    // 여러 노드가 쓰더라도 같은 게시글의 이벤트가 커밋 순서대로 번호를 받는다
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 20)
+    private String aggregateType;
+    
+    @Column(nullable = false)
+    private Long aggregateId;
+    
+    @Column(nullable = false, length = 50)
+    private String eventType;
+    
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+    
+    // 전달 실패 횟수 (outbox.relay.max-attempts 에 이르면 버린다)
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    public void prePersist() {
+        ZonedDateTime kst = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
+        this.createdAt = kst.toLocalDateTime().truncatedTo(ChronoUnit.MICROS);
+    }
+}
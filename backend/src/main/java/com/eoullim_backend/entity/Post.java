@@ -8,11 +8,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "posts", indexes = {
     @Index(name = "idx_post_user_id", columnList = "user_id"),
-    @Index(name = "idx_post_created_at", columnList = "created_at"),
+    @Index(name = "idx_post_created_at", columnList = "created_at, id"),
     @Index(name = "idx_post_view_count", columnList = "view_count"),
     @Index(name = "idx_post_like_count", columnList = "like_count")
 })
@@ -23,7 +24,8 @@ import java.time.ZonedDateTime;
 public class Post {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,14 +38,21 @@ public class Post {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
     
-    @Column(nullable = false)
+    // 조회수는 PostCounters 가 상대 UPDATE 로만 갱신 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Integer viewCount = 0;
     
-    @Column(nullable = false)
+    // 좋아요 수도 PostCounters 가 상대 UPDATE 로만 갱신, LikeCountReconciler 가 post_likes 기준으로 주기적으로 보정
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
     
+    // 댓글 수 (비정규화) - 댓글 작성/삭제 시 상대 UPDATE 로만 갱신, CommentCountReconciler 가 주기적으로 보정
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer commentCount = 0;
+    
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -53,13 +62,13 @@ public class Post {
     @PrePersist
     public void prePersist() {
         ZonedDateTime kst = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-        this.createdAt = kst.toLocalDateTime();
-        this.updatedAt = kst.toLocalDateTime();
+        this.createdAt = kst.toLocalDateTime().truncatedTo(ChronoUnit.MICROS);
+        this.updatedAt = kst.toLocalDateTime().truncatedTo(ChronoUnit.MICROS);
     }
     
     @PreUpdate
     public void preUpdate() {
         ZonedDateTime kst = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-        this.updatedAt = kst.toLocalDateTime();
+        this.updatedAt = kst.toLocalDateTime().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -34,6 +35,11 @@ public class User {
     @Column(columnDefinition = "TEXT")
     private String bio;
     
+    // 안 읽은 쪽지 수 - MessageCounters 가 상대 UPDATE 로만 갱신 (엔티티 저장 시 덮어쓰지 않음), UnreadCountReconciler 가 보정
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer unreadMessageCount = 0;
+    
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -0,0 +1,99 @@
+package com.eoullim_backend.event;
+
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.service.PostFeedCache;
+import com.eoullim_backend.service.PostLeaderboard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 게시글/댓글 이벤트를 posts·comments 캐시, 피드 캐시, 순위표에 반영
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationSubscriber {
+
+    private final CacheManager cacheManager;
+    private final PostFeedCache postFeedCache;
+    private final PostLeaderboard postLeaderboard;
+
+    @EventListener
+    public void on(DomainEvent.PostCreated event) {
+        postFeedCache.postCreated(event.post());
+    }
+
+    // 단일 캐시는 지우고, 피드 캐시/순위표는 해당 항목만 교체
+    @EventListener
+    public void on(DomainEvent.PostUpdated event) {
+        evict("posts", event.post().getId());
+        postFeedCache.postUpdated(event.post());
+        postLeaderboard.postUpdated(event.post());
+    }
+
+    @EventListener
+    public void on(DomainEvent.PostDeleted event) {
+        evict("posts", event.postId());
+        evict("comments", event.postId());
+        postFeedCache.postDeleted(event.postId());
+        postLeaderboard.postDeleted(event.postId());
+    }
+
+    // 새 댓글은 스레드 끝에 붙으므로, 캐시된 첫 페이지가 이미 가득 차 있고 다음 페이지가 있으면 그대로 둔다
+    @EventListener
+    public void on(DomainEvent.CommentsAdded event) {
+        evict("posts", event.postId());
+        postFeedCache.commentCountChanged(event.postId(), event.count());
+        CursorSliceDTO<?> first = cachedThread(event.postId());
+        if (first != null && !first.isHasNext()) {
+            evict("comments", event.postId());
+        }
+    }
+
+    // 수정된 댓글이 캐시된 첫 페이지에 있을 때만 제거
+    @EventListener
+    public void on(DomainEvent.CommentUpdated event) {
+        CursorSliceDTO<?> first = cachedThread(event.postId());
+        if (first != null && first.getContent().stream()
+                .anyMatch(comment -> ((CommentDTO) comment).getId().equals(event.commentId()))) {
+            evict("comments", event.postId());
+        }
+    }
+
+    // 뒤쪽 댓글이 지워져도 첫 페이지의 다음 페이지 여부가 바뀔 수 있어 항상 제거
+    @EventListener
+    public void on(DomainEvent.CommentDeleted event) {
+        evict("posts", event.postId());
+        evict("comments", event.postId());
+        postFeedCache.commentCountChanged(event.postId(), -1);
+    }
+
+    // 회원 탈퇴 - 여러 게시글의 글/댓글/좋아요가 바뀌므로 전체를 비우고 다시 채운다
+    @EventListener
+    public void on(DomainEvent.UserDeleted event) {
+        clear("posts");
+        clear("comments");
+        postFeedCache.invalidate();
+        postLeaderboard.reload();
+    }
+
+    private CursorSliceDTO<?> cachedThread(Long postId) {
+        Cache comments = cacheManager.getCache("comments");
+        return comments != null ? comments.get(postId, CursorSliceDTO.class) : null;
+    }
+
+    private void evict(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
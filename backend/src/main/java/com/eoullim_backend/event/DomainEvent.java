@@ -0,0 +1,112 @@
+package com.eoullim_backend.event;
+
+import com.eoullim_backend.dto.MessageDTO;
+import com.eoullim_backend.dto.PostDTO;
+
+import java.util.List;
+
+/**
+ * 게시글/댓글/쪽지/회원 쓰기가 남기는 도메인 이벤트.
+ * DomainEventOutbox 가 쓰기와 같은 트랜잭션에서 outbox_events 에 JSON 으로 저장하고,
+ * OutboxRelay 가 커밋된 이벤트를 ApplicationEvent 로 발행하면 구독자(@EventListener)가 캐시/순위표/검색 색인/카운터에 반영한다.
+ * aggregateType/aggregateId 는 순서를 보장하는 단위이며 운영 중 조회용으로 함께 저장한다.
+ */
+public sealed interface DomainEvent {
+
+    String aggregateType();
+
+    Long aggregateId();
+
+    record PostCreated(PostDTO post) implements DomainEvent {
+        public String aggregateType() {
+            return "POST";
+        }
+
+        public Long aggregateId() {
+            return post.getId();
+        }
+    }
+
+    record PostUpdated(PostDTO post) implements DomainEvent {
+        public String aggregateType() {
+            return "POST";
+        }
+
+        public Long aggregateId() {
+            return post.getId();
+        }
+    }
+
+    record PostDeleted(Long postId) implements DomainEvent {
+        public String aggregateType() {
+            return "POST";
+        }
+
+        public Long aggregateId() {
+            return postId;
+        }
+    }
+
+    // 게시글에 댓글 count 개 추가 (단건/대량/묶음 작성 공통)
+    record CommentsAdded(Long postId, int count) implements DomainEvent {
+        public String aggregateType() {
+            return "POST";
+        }
+
+        public Long aggregateId() {
+            return postId;
+        }
+    }
+
+    record CommentUpdated(Long postId, Long commentId) implements DomainEvent {
+        public String aggregateType() {
+            return "POST";
+        }
+
+        public Long aggregateId() {
+            return postId;
+        }
+    }
+
+    record CommentDeleted(Long postId, Long commentId) implements DomainEvent {
+        public String aggregateType() {
+            return "POST";
+        }
+
+        public Long aggregateId() {
+            return postId;
+        }
+    }
+
+    record MessagesSent(Long senderId, List<MessageDTO> messages) implements DomainEvent {
+        public String aggregateType() {
+            return "USER";
+        }
+
+        public Long aggregateId() {
+            return senderId;
+        }
+    }
+
+    // 받은 쪽지 count 개가 읽음 처리되거나 읽기 전에 삭제됨
+    // sourceNodeId 노드는 커밋 직후 이미 반영했으므로 전달받아도 건너뛴다 (null 이면 모든 노드가 반영)
+    record MessagesRead(Long userId, int count, String sourceNodeId) implements DomainEvent {
+        public String aggregateType() {
+            return "USER";
+        }
+
+        public Long aggregateId() {
+            return userId;
+        }
+    }
+
+    record UserDeleted(Long userId) implements DomainEvent {
+        public String aggregateType() {
+            return "USER";
+        }
+
+        public Long aggregateId() {
+            return userId;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.eoullim_backend.event;
+
+import com.eoullim_backend.entity.OutboxEvent;
+import com.eoullim_backend.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+// 쓰기 트랜잭션 안에서 도메인 이벤트를 outbox_events 에 저장. 커밋되면 relay 를 깨워 바로 전달하게 한다
+@Component
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay outboxRelay;
+    // 이 프로세스를 구분하는 값 - 쓴 노드가 직접 반영한 이벤트를 relay 가 다시 반영하지 않게 이벤트에 싣는다
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        // 쓰기를 먼저 반영해 행 잠금을 잡은 뒤 이벤트 id 를 받는다 (같은 게시글의 동시 쓰기는 커밋 순서대로 번호가 매겨진다)
+        outboxEventRepository.flush();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(event.aggregateType())
+                .aggregateId(event.aggregateId())
+                .eventType(event.getClass().getSimpleName())
+                .payload(toJson(event))
+                .build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.wakeUp();
+            }
+        });
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
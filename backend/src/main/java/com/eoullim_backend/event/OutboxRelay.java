@@ -0,0 +1,220 @@
+package com.eoullim_backend.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * outbox_events 를 id 순으로 묶어 읽어 구독자에게 전달하고 지우는 relay.
+ * 묶음 하나를 한 트랜잭션에서 잠가(FOR UPDATE) 읽고, 발행하고, 지운다. 구독자가 커밋 후 반영(afterCommit)으로 등록한
+ * 변경은 삭제가 커밋된 뒤에 적용되고, 구독자가 실패하면 묶음 전체가 롤백되어 다시 전달된다 (at-least-once).
+ * 노드마다 relay 가 돌아도 잠금 때문에 묶음은 하나씩 처리되므로 같은 게시글/사용자의 이벤트는 id(커밋) 순서를 지킨다.
+ * 평소에는 쓰기 커밋 직후 wakeUp 으로 깨어나고, poll-interval-ms 는 다른 노드의 쓰기나 재시작 전에 남은 이벤트를 줍는 주기다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String SELECT_BATCH =
+            "SELECT id, event_type, payload, attempts FROM outbox_events ORDER BY id LIMIT ?";
+    private static final String DELETE = "DELETE FROM outbox_events WHERE id = ?";
+    private static final String INCREMENT_ATTEMPTS = "UPDATE outbox_events SET attempts = attempts + 1 WHERE id = ?";
+    private static final RowMapper<Row> ROW_MAPPER = (rs, i) -> new Row(
+            rs.getLong("id"), rs.getString("event_type"), rs.getString("payload"), rs.getInt("attempts"));
+
+    // 저장된 이벤트 이름 → 타입
+    private static final Map<String, Class<?>> EVENT_TYPES = Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+            .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+
+    private final Semaphore signal = new Semaphore(0);
+    // 이 노드 안에서 relay 스레드와 drain 호출이 겹치지 않게 한다
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private final DistributionSummary batchSizes;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter dropped;
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.poll-interval-ms:1000}") long pollIntervalMillis,
+                       @Value("${outbox.relay.max-attempts:5}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size").register(meterRegistry);
+        this.delivered = Counter.builder("outbox.relay.events").tag("result", "delivered").register(meterRegistry);
+        this.failed = Counter.builder("outbox.relay.events").tag("result", "failed").register(meterRegistry);
+        this.dropped = Counter.builder("outbox.relay.events").tag("result", "dropped").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = new Thread(this::run, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 쓰기 커밋 직후 호출 - 대기 중인 relay 를 깨운다
+    public void wakeUp() {
+        signal.release();
+    }
+
+    // 남은 이벤트를 호출한 스레드에서 모두 전달하고 전달한 건수 반환
+    public int drain() {
+        int total = 0;
+        int relayed;
+        do {
+            relayed = relayOnce();
+            total += relayed;
+        } while (relayed == batchSize);
+        return total;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (drain() == 0 || !running) {
+                    signal.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    signal.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("outbox 전달 중 오류", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private int relayOnce() {
+        relayLock.lock();
+        try {
+            List<Row> batch;
+            try {
+                batch = transactionTemplate.execute(status -> {
+                    List<Row> rows = jdbcTemplate.query(SELECT_BATCH + " FOR UPDATE", ROW_MAPPER, batchSize);
+                    rows.forEach(this::publish);
+                    jdbcTemplate.batchUpdate(DELETE, rows.stream().map(row -> new Object[]{row.id()}).toList());
+                    return rows;
+                });
+            } catch (RuntimeException e) {
+                log.debug("outbox 묶음 전달 실패, 한 건씩 재시도: {}", e.getMessage());
+                return relayOneByOne();
+            }
+            if (batch == null || batch.isEmpty()) {
+                return 0;
+            }
+            batchSizes.record(batch.size());
+            delivered.increment(batch.size());
+            return batch.size();
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    // 묶음이 실패하면 한 건씩 따로 전달하고 전달한 건수 반환. 순서를 지키기 위해 실패한 이벤트에서 멈추고
+    // 다음 주기에 다시 시도하며, max-attempts 번 실패한 이벤트는 로그를 남기고 버린다
+    private int relayOneByOne() {
+        List<Row> rows = jdbcTemplate.query(SELECT_BATCH, ROW_MAPPER, batchSize);
+        int relayed = 0;
+        for (Row row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (jdbcTemplate.update(DELETE, row.id()) == 1) {
+                        publish(row);
+                    }
+                });
+                delivered.increment();
+                relayed++;
+            } catch (RuntimeException e) {
+                failed.increment();
+                if (row.attempts() + 1 >= maxAttempts) {
+                    log.error("outbox 이벤트 {}({}) {}회 실패로 버림: {}", row.eventType(), row.id(), maxAttempts,
+                            row.payload(), e);
+                    jdbcTemplate.update(DELETE, row.id());
+                    dropped.increment();
+                    continue;
+                }
+                log.warn("outbox 이벤트 {}({}) 전달 실패, 다음 주기에 재시도: {}", row.eventType(), row.id(), e.getMessage());
+                jdbcTemplate.update(INCREMENT_ATTEMPTS, row.id());
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    private void publish(Row row) {
+        Class<?> type = EVENT_TYPES.get(row.eventType());
+        if (type == null) {
+            throw new IllegalStateException("알 수 없는 이벤트 종류: " + row.eventType());
+        }
+        try {
+            eventPublisher.publishEvent(objectMapper.readValue(row.payload(), type));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 역직렬화 실패: " + row.eventType(), e);
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        signal.release();
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private record Row(long id, String eventType, String payload, int attempts) {
+    }
+}
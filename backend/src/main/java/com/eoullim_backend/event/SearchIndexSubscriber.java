@@ -0,0 +1,34 @@
+package com.eoullim_backend.event;
+
+import com.eoullim_backend.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 게시글 이벤트를 검색 색인에 반영
+@Component
+@RequiredArgsConstructor
+public class SearchIndexSubscriber {
+
+    private final PostSearchIndex postSearchIndex;
+
+    @EventListener
+    public void on(DomainEvent.PostCreated event) {
+        postSearchIndex.postCreated(event.post());
+    }
+
+    @EventListener
+    public void on(DomainEvent.PostUpdated event) {
+        postSearchIndex.postUpdated(event.post());
+    }
+
+    @EventListener
+    public void on(DomainEvent.PostDeleted event) {
+        postSearchIndex.postDeleted(event.postId());
+    }
+
+    @EventListener
+    public void on(DomainEvent.UserDeleted event) {
+        postSearchIndex.userDeleted(event.userId());
+    }
+}
@@ -0,0 +1,65 @@
+package com.eoullim_backend.event;
+
+import com.eoullim_backend.counter.MessageCounters;
+import com.eoullim_backend.dto.MessageDTO;
+import com.eoullim_backend.service.MessageStreamRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 쪽지 이벤트를 안 읽은 수와 실시간 수신(SSE)에 반영
+// 증감은 되돌릴 수 없으므로 relay 트랜잭션이 커밋된 뒤에 적용한다 (롤백되어 다시 전달될 때 이중 반영 방지)
+@Component
+@RequiredArgsConstructor
+public class UnreadCountSubscriber {
+
+    private final MessageCounters messageCounters;
+    private final MessageStreamRegistry messageStreamRegistry;
+    private final DomainEventOutbox domainEventOutbox;
+
+    @EventListener
+    public void on(DomainEvent.MessagesSent event) {
+        afterCommit(() -> {
+            Map<Long, Long> received = event.messages().stream()
+                    .collect(Collectors.groupingBy(MessageDTO::getRecipientId, Collectors.counting()));
+            Map<Long, Long> unread = new HashMap<>();
+            received.forEach((recipientId, count) -> unread.put(recipientId, messageCounters.adjust(recipientId, count)));
+            event.messages().forEach(message -> messageStreamRegistry.messageReceived(
+                    message.getRecipientId(), message, unread.get(message.getRecipientId())));
+        });
+    }
+
+    // 읽음 처리한 노드는 커밋 직후 이미 반영했다 (MessageService)
+    @EventListener
+    public void on(DomainEvent.MessagesRead event) {
+        if (domainEventOutbox.nodeId().equals(event.sourceNodeId())) {
+            return;
+        }
+        afterCommit(() -> messageStreamRegistry.unreadChanged(event.userId(),
+                messageCounters.adjust(event.userId(), -event.count())));
+    }
+
+    @EventListener
+    public void on(DomainEvent.UserDeleted event) {
+        messageCounters.invalidateAll();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
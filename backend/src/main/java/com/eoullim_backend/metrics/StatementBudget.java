@@ -0,0 +1,17 @@
+package com.eoullim_backend.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 하나가 실행해도 되는 Hibernate SQL 문장 수. 컨트롤러 메서드에 선언한다.
+ * 선언하지 않은 엔드포인트는 statements.budget.default 를 쓰고, 넘으면 statements.budget.mode 에 따라 로그를 남기거나 실패시킨다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+}
@@ -0,0 +1,8 @@
+package com.eoullim_backend.metrics;
+
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(int budget, String sql) {
+        super("요청당 SQL 문장 예산(" + budget + ")을 넘었습니다: " + sql);
+    }
+}
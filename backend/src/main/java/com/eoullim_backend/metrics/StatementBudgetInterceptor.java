@@ -0,0 +1,86 @@
+package com.eoullim_backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 실행된 Hibernate 문장 수를 http.server.requests.statements(method, uri, status, over_budget)로 기록하고
+ * 엔드포인트의 예산(@StatementBudget, 없으면 statements.budget.default)과 비교한다.
+ * 숨은 지연 로딩(N+1)은 응답 직렬화 중에도 일어나므로 응답을 다 쓴 뒤의 수를 기록한다.
+ * 요청 스레드에서 실행한 문장만 세며, 비동기 응답(CompletableFuture, SSE, 스트리밍)은 재디스패치에서 센 수만 남는다.
+ */
+@Slf4j
+@Component
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC = "http.server.requests.statements";
+    // 요청이 끝난 뒤 센 문장 수 (Integer) - 테스트에서 엔드포인트별 예산을 확인할 때 쓴다
+    public static final String STATEMENT_COUNT_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".statements";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final StatementBudgetMode mode;
+    private final int defaultBudget;
+
+    public StatementBudgetInterceptor(StatementCounter statementCounter, MeterRegistry meterRegistry,
+                                      @Value("${statements.budget.mode:log}") StatementBudgetMode mode,
+                                      @Value("${statements.budget.default:20}") int defaultBudget) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.start(mode == StatementBudgetMode.FAIL ? budgetOf(handler) : Integer.MAX_VALUE);
+        return true;
+    }
+
+    // 비동기 처리로 넘어가면 스레드를 비운다 - 기록은 결과를 쓰는 재디스패치에서 한다
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        int statements = statementCounter.stop();
+        int budget = budgetOf(handler);
+        boolean overBudget = statements > budget;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+        DistributionSummary.builder(METRIC)
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("over_budget", String.valueOf(overBudget))
+                .register(meterRegistry)
+                .record(statements);
+        if (overBudget && mode != StatementBudgetMode.OFF) {
+            log.warn("SQL 문장 예산 초과: {} {} - {}개 (예산 {}개)", request.getMethod(), uri, statements, budget);
+        }
+    }
+
+    private int budgetOf(Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            StatementBudget budget = method.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
@@ -0,0 +1,11 @@
+package com.eoullim_backend.metrics;
+
+// 요청이 문장 예산을 넘었을 때의 처리
+public enum StatementBudgetMode {
+    // 지표만 기록
+    OFF,
+    // 요청이 끝난 뒤 경고 로그
+    LOG,
+    // 예산을 넘는 문장을 실행하려는 순간 StatementBudgetExceededException (테스트/개발용)
+    FAIL
+}
@@ -0,0 +1,60 @@
+package com.eoullim_backend.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 스레드별 Hibernate SQL 문장 수.
+ * Hibernate 의 StatementInspector 로 등록되어 준비되는 문장마다 센다 (JDBC 배치는 문장 하나로 센다).
+ * JdbcTemplate 로 직접 실행하는 문장은 포함되지 않는다.
+ */
+@Component
+public class StatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Count> COUNT = new ThreadLocal<>();
+
+    // 현재 스레드에서 세기 시작
+    public void start() {
+        start(Integer.MAX_VALUE);
+    }
+
+    // limit 을 넘는 문장을 준비하려 하면 StatementBudgetExceededException
+    public void start(int limit) {
+        COUNT.set(new Count(limit));
+    }
+
+    // 세기를 끝내고 그동안 센 문장 수 반환 (시작하지 않았으면 0)
+    public int stop() {
+        Count count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count.value;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = COUNT.get();
+        if (count != null && ++count.value > count.limit) {
+            throw new StatementBudgetExceededException(count.limit, sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    private static final class Count {
+
+        private final int limit;
+        private int value;
+
+        Count(int limit) {
+            this.limit = limit;
+        }
+    }
+}
@@ -1,14 +1,61 @@
 package com.eoullim_backend.repository;
 
+import com.eoullim_backend.dto.CommentDTO;
 import com.eoullim_backend.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByPostId(Long postId);
+
+    // 엔티티/연관 로딩 없이 DTO 로 바로 읽는다 (post_id, user_id 는 외래키 컬럼 그대로)
+    String COMMENT_DTO_SELECT = "select new com.eoullim_backend.dto.CommentDTO("
+            + "c.id, c.post.id, c.user.id, c.content, c.createdAt, c.updatedAt) from Comment c";
+
     List<Comment> findByUserId(Long userId);
-    void deleteByPostId(Long postId); // 게시글 삭제 시 댓글도 함께 삭제
     int countByPostId(Long postId); // 게시글별 댓글 수 조회
+
+    // 게시글의 전체 댓글 (작성순)
+    @Query(COMMENT_DTO_SELECT + " where c.post.id = :postId order by c.createdAt, c.id")
+    List<CommentDTO> findDTOsByPostId(@Param("postId") Long postId);
+
+    // 댓글 스레드 키셋 조회 (idx_comment_post_created_at) - 작성순으로 size+1 건만 읽는다
+    @Query(COMMENT_DTO_SELECT + " where c.post.id = :postId order by c.createdAt, c.id")
+    Slice<CommentDTO> findThread(@Param("postId") Long postId, Pageable pageable);
+
+    @Query(COMMENT_DTO_SELECT + " where c.post.id = :postId"
+            + " and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))"
+            + " order by c.createdAt, c.id")
+    Slice<CommentDTO> findThreadAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id, Pageable pageable);
+
+    // 게시글 삭제 시 댓글도 함께 삭제 - 엔티티를 읽지 않는 단일 DELETE (댓글 수와 무관하게 한 문장)
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    // 회원 탈퇴 - 엔티티를 읽지 않고 한 문장으로 삭제
+    @Modifying
+    @Query("delete from Comment c where c.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 사용자가 작성한 게시글에 달린 댓글 전체 삭제
+    @Modifying
+    @Query("delete from Comment c where c.post.id in (select p.id from Post p where p.user.id = :userId)")
+    int deleteAllOnPostsOf(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from Comment c where c.post.id in :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    // 청크 삭제용 id 조회
+    @Query("select c.id from Comment c where c.user.id = :userId order by c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,14 +1,69 @@
 package com.eoullim_backend.repository;
 
+import com.eoullim_backend.dto.MessageDTO;
 import com.eoullim_backend.entity.Message;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
-    List<Message> findByRecipientId(Long recipientId);
-    List<Message> findBySenderId(Long senderId);
-    void deleteBySenderIdOrRecipientId(Long senderId, Long recipientId);
+
+    // MessageDTO 프로젝션 - users 의 TEXT 컬럼(bio, profileImage) 없이 필요한 값만 한 번의 조인으로 가져온다
+    String MESSAGE_DTO_SELECT = "select new com.eoullim_backend.dto.MessageDTO("
+            + "m.id, s.id, s.username, r.id, r.username, m.content, m.createdAt, m.readAt) "
+            + "from Message m join m.sender s join m.recipient r";
+
+
+    // 회원 탈퇴 - 주고받은 쪽지 일괄 삭제
+    @Modifying
+    @Query("delete from Message m where m.sender.id = :userId or m.recipient.id = :userId")
+    int deleteAllByParticipant(@Param("userId") Long userId);
+
+    // 청크 삭제용 id 조회
+    @Query("select m.id from Message m where m.sender.id = :userId or m.recipient.id = :userId order by m.id")
+    List<Long> findIdsByParticipant(@Param("userId") Long userId, Pageable pageable);
+
+    // 읽음 처리 - 수신자의 안 읽은 쪽지만 갱신하고, 갱신된 건수만큼 안 읽은 수를 줄인다
+    @Modifying
+    @Query("update Message m set m.readAt = :readAt"
+            + " where m.id = :id and m.recipient.id = :userId and m.readAt is null")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Query("update Message m set m.readAt = :readAt where m.recipient.id = :userId and m.readAt is null")
+    int markAllRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    @Query(MESSAGE_DTO_SELECT + " where r.id = :userId")
+    List<MessageDTO> findReceivedDTOs(@Param("userId") Long userId);
+
+    @Query(MESSAGE_DTO_SELECT + " where s.id = :userId")
+    List<MessageDTO> findSentDTOs(@Param("userId") Long userId);
+
+    // 받은 쪽지함 키셋 조회 (idx_message_recipient_created_at) - OFFSET/COUNT 없이 size+1 건만 읽는다
+    @Query(MESSAGE_DTO_SELECT + " where r.id = :userId order by m.createdAt desc, m.id desc")
+    Slice<MessageDTO> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(MESSAGE_DTO_SELECT + " where r.id = :userId"
+            + " and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id))"
+            + " order by m.createdAt desc, m.id desc")
+    Slice<MessageDTO> findInboxAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id, Pageable pageable);
+
+    // 보낸 쪽지함 키셋 조회 (idx_message_sender_created_at)
+    @Query(MESSAGE_DTO_SELECT + " where s.id = :userId order by m.createdAt desc, m.id desc")
+    Slice<MessageDTO> findOutbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(MESSAGE_DTO_SELECT + " where s.id = :userId"
+            + " and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id))"
+            + " order by m.createdAt desc, m.id desc")
+    Slice<MessageDTO> findOutboxAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id, Pageable pageable);
 }
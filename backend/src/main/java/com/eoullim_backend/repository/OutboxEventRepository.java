@@ -0,0 +1,15 @@
+package com.eoullim_backend.repository;
+
+import com.eoullim_backend.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+// 저장만 JPA 로 하고, 읽기/삭제는 OutboxRelay 가 JDBC 로 직접 한다
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 아직 전달되지 않은 이벤트가 있는지 (카운터 보정 작업이 전달 대기 중이면 미룬다)
+    boolean existsByEventTypeIn(Collection<String> eventTypes);
+}
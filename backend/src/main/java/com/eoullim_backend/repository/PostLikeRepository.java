@@ -0,0 +1,47 @@
+package com.eoullim_backend.repository;
+
+import com.eoullim_backend.entity.PostLike;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+
+    long countByPostId(Long postId);
+
+    // 좋아요 취소 - 단일 DELETE, 삭제된 행 수로 취소 여부 판단
+    @Transactional
+    @Modifying
+    @Query("delete from PostLike l where l.post.id = :postId and l.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from PostLike l where l.post.id = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("delete from PostLike l where l.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 사용자가 작성한 게시글에 달린 좋아요 전체 삭제
+    @Modifying
+    @Query("delete from PostLike l where l.post.id in (select p.id from Post p where p.user.id = :userId)")
+    int deleteAllOnPostsOf(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from PostLike l where l.post.id in :postIds")
+    int deleteAllByPostIdIn(@Param("postIds") List<Long> postIds);
+
+    // 청크 삭제용 id 조회
+    @Query("select l.id from PostLike l where l.user.id = :userId order by l.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+}
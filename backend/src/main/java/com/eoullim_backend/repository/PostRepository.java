@@ -1,12 +1,134 @@
 package com.eoullim_backend.repository;
 
+import com.eoullim_backend.dto.CountDrift;
+import com.eoullim_backend.dto.PostDTO;
 import com.eoullim_backend.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // PostDTO 프로젝션 - 게시글 목록을 comments 테이블 접근 없이 한 번의 쿼리로 가져온다
+    String POST_DTO_SELECT = "select new com.eoullim_backend.dto.PostDTO("
+            + "p.id, p.user.id, p.title, p.content, p.viewCount, p.likeCount, p.commentCount, "
+            + "p.createdAt, p.updatedAt) from Post p";
+
     List<Post> findByUserId(Long userId);
     List<Post> findAllByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+
+    @Query(POST_DTO_SELECT + " where p.id = :id")
+    Optional<PostDTO> findPostDTOById(@Param("id") Long id);
+
+    @Query(POST_DTO_SELECT + " order by p.createdAt desc")
+    List<PostDTO> findAllPostDTOs();
+
+    // 검색 결과 id 로 게시글 조회 (순서는 호출한 쪽에서 맞춘다)
+    @Query(POST_DTO_SELECT + " where p.id in :ids")
+    List<PostDTO> findPostDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 내보내기용 - 결과 전체를 올리지 않고 fetch size 단위로 읽는다. 트랜잭션 안에서 소비하고 닫아야 한다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(POST_DTO_SELECT + " order by p.id")
+    Stream<PostDTO> streamAllPostDTOs();
+
+    @Query(value = POST_DTO_SELECT + " order by p.createdAt desc",
+           countQuery = "select count(p) from Post p")
+    Page<PostDTO> findPostDTOs(Pageable pageable);
+
+    // 키셋 피드 (idx_post_created_at: created_at, id) - OFFSET/COUNT 없이 size+1 건만 읽는다
+    @Query(POST_DTO_SELECT + " order by p.createdAt desc, p.id desc")
+    Slice<PostDTO> findFeed(Pageable pageable);
+
+    @Query(POST_DTO_SELECT + " where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)"
+            + " order by p.createdAt desc, p.id desc")
+    Slice<PostDTO> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 순위표 적재용 상위 N건 (idx_post_view_count, idx_post_like_count)
+    @Query(POST_DTO_SELECT + " order by p.viewCount desc, p.id desc")
+    List<PostDTO> findMostViewed(Pageable pageable);
+
+    @Query(POST_DTO_SELECT + " order by p.likeCount desc, p.id desc")
+    List<PostDTO> findMostLiked(Pageable pageable);
+
+    @Query(POST_DTO_SELECT + " where p.user.id = :userId order by p.createdAt desc")
+    List<PostDTO> findPostDTOsByUserId(@Param("userId") Long userId);
+
+    // 댓글 수 상대 갱신 (댓글 작성/삭제와 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 사용자가 다른 게시글에 남긴 댓글을 지우기 전에 해당 게시글들의 댓글 수 차감
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount"
+            + " - (select count(c) from Comment c where c.post = p and c.user.id = :userId)"
+            + " where p.id in (select c.post.id from Comment c where c.user.id = :userId)")
+    int decrementCommentCountsByCommenter(@Param("userId") Long userId);
+
+    // 사용자가 누른 좋아요를 지우기 전에 해당 게시글들의 좋아요 수 차감 (게시글당 최대 1개)
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount - 1"
+            + " where p.id in (select l.post.id from PostLike l where l.user.id = :userId)")
+    int decrementLikeCountsByLiker(@Param("userId") Long userId);
+
+    // 회원 탈퇴 - 사용자 게시글 일괄 삭제 (댓글/좋아요를 먼저 지운 뒤 호출)
+    @Modifying
+    @Query("delete from Post p where p.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 청크 삭제용 - 지울 댓글/좋아요가 달린 게시글의 카운터 차감
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount"
+            + " - (select count(c) from Comment c where c.post = p and c.id in :commentIds)"
+            + " where p.id in (select c.post.id from Comment c where c.id in :commentIds)")
+    int decrementCommentCountsFor(@Param("commentIds") List<Long> commentIds);
+
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount - 1"
+            + " where p.id in (select l.post.id from PostLike l where l.id in :likeIds)")
+    int decrementLikeCountsFor(@Param("likeIds") List<Long> likeIds);
+
+    @Query("select p.id from Post p where p.user.id = :userId order by p.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 묶음 작성 시 존재 확인 - 엔티티를 읽지 않고 id 만
+    @Query("select p.id from Post p where p.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 댓글/좋아요 수 보정용 id 청크 조회
+    @Query("select p.id from Post p where p.id > :afterId order by p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 실제 댓글 수와 다른 게시글만 보정
+    @Modifying
+    @Query("update Post p set p.commentCount = (select count(c) from Comment c where c.post = p)"
+            + " where p.id in :ids and p.commentCount <> (select count(c) from Comment c where c.post = p)")
+    int reconcileCommentCounts(@Param("ids") List<Long> ids);
+
+    // 실제 좋아요 수와 다른 게시글 (보정 후보)
+    @Query("select new com.eoullim_backend.dto.CountDrift(p.id, p.likeCount, (select count(l) from PostLike l where l.post = p))"
+            + " from Post p where p.id in :ids and p.likeCount <> (select count(l) from PostLike l where l.post = p)")
+    List<CountDrift> findLikeCountDrifts(@Param("ids") List<Long> ids);
+
+    // 후보로 본 like_count 와 post_likes 수가 둘 다 그대로일 때만 보정 (그 사이 커밋된 좋아요가 있으면 건너뜀)
+    @Modifying
+    @Query("update Post p set p.likeCount = :actual where p.id = :id and p.likeCount = :stored"
+            + " and (select count(l) from PostLike l where l.post = p) = :actual")
+    int repairLikeCount(@Param("id") Long id, @Param("stored") Integer stored, @Param("actual") Integer actual);
+}
@@ -1,13 +1,63 @@
 package com.eoullim_backend.repository;
 
+import com.eoullim_backend.dto.CountDrift;
 import com.eoullim_backend.entity.User;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // 계정 삭제 마지막 단계 - 사용자 행을 잠가 이 사용자를 참조하는 쓰기(쪽지/댓글/좋아요/게시글)가 삭제와 겹쳐 커밋되지 않게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> lockById(@Param("id") Long id);
+
+    // 묶음 작성 시 존재 확인 - 엔티티를 읽지 않고 id 만
+    @Query("select u.id from User u where u.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴하는 사용자가 보낸 안 읽은 쪽지를 지우기 전에 수신자들의 안 읽은 수 차감
+    @Modifying
+    @Query("update User u set u.unreadMessageCount = greatest(0, u.unreadMessageCount"
+            + " - (select count(m) from Message m where m.recipient = u and m.sender.id = :userId and m.readAt is null))"
+            + " where u.id in (select m.recipient.id from Message m where m.sender.id = :userId and m.readAt is null)")
+    int decrementUnreadCountsBySender(@Param("userId") Long userId);
+
+    // 청크 삭제용 - 지울 쪽지 중 안 읽은 것만큼 수신자의 안 읽은 수 차감
+    @Modifying
+    @Query("update User u set u.unreadMessageCount = greatest(0, u.unreadMessageCount"
+            + " - (select count(m) from Message m where m.recipient = u and m.id in :messageIds and m.readAt is null))"
+            + " where u.id in (select m.recipient.id from Message m where m.id in :messageIds and m.readAt is null)")
+    int decrementUnreadCountsFor(@Param("messageIds") List<Long> messageIds);
+
+    // 안 읽은 수 보정용 id 청크 조회
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 실제 안 읽은 쪽지 수와 다른 사용자 (보정 후보)
+    @Query("select new com.eoullim_backend.dto.CountDrift(u.id, u.unreadMessageCount,"
+            + " (select count(m) from Message m where m.recipient = u and m.readAt is null))"
+            + " from User u where u.id in :ids"
+            + " and u.unreadMessageCount <> (select count(m) from Message m where m.recipient = u and m.readAt is null)")
+    List<CountDrift> findUnreadCountDrifts(@Param("ids") List<Long> ids);
+
+    // 후보로 본 저장 값과 실제 안 읽은 수가 둘 다 그대로일 때만 보정
+    @Modifying
+    @Query("update User u set u.unreadMessageCount = :actual where u.id = :id and u.unreadMessageCount = :stored"
+            + " and (select count(m) from Message m where m.recipient = u and m.readAt is null) = :actual")
+    int repairUnreadCount(@Param("id") Long id, @Param("stored") Integer stored, @Param("actual") Integer actual);
+}
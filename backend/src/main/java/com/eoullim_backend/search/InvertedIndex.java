@@ -0,0 +1,359 @@
+package com.eoullim_backend.search;
+
+import com.eoullim_backend.dto.PostDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 역색인 (2-gram 색인어 → 게시글 목록). 스레드 안전하지 않으므로 PostSearchIndex 가 잠금으로 감싼다.
+ * 문서 번호는 추가 순서대로만 늘어나므로 색인어별 posting 목록은 항상 정렬되어 있고, 수정은 기존 문서를 지우고 새로 추가한다.
+ * 지운 문서는 비트로만 표시했다가 살아 있는 문서의 1/4 을 넘으면 posting 에서 걷어내고 번호를 다시 매긴다.
+ * 검색은 모든 색인어를 포함한 문서(AND)를 가장 짧은 목록부터 교집합으로 찾고 BM25 로 점수를 매긴다.
+ */
+public class InvertedIndex {
+
+    // 제목에 나온 색인어는 본문보다 이만큼 더 센다
+    static final int TITLE_WEIGHT = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_TF = Byte.MAX_VALUE;
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+
+    private final int maxContentChars;
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docOf = new HashMap<>();
+
+    // 문서 번호별 게시글 id / 작성자 / 가중 길이
+    private long[] postIds = new long[1024];
+    private long[] userIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private final BitSet dead = new BitSet();
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+
+    public InvertedIndex(int maxContentChars) {
+        this.maxContentChars = maxContentChars;
+    }
+
+    // 색인 추가 (이미 있으면 교체)
+    public void put(PostDTO post) {
+        remove(post.getId());
+        Map<String, Integer> frequencies = new HashMap<>();
+        NgramTokenizer.termFrequencies(post.getTitle())
+                .forEach((term, tf) -> frequencies.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+        String content = post.getContent();
+        if (content != null && content.length() > maxContentChars) {
+            content = content.substring(0, maxContentChars);
+        }
+        NgramTokenizer.termFrequencies(content).forEach((term, tf) -> frequencies.merge(term, tf, Integer::sum));
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int doc = docCount++;
+        ensureCapacity(docCount);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            int tf = entry.getValue();
+            postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, Math.min(tf, MAX_TF));
+            length += tf;
+        }
+        postIds[doc] = post.getId();
+        userIds[doc] = post.getUserId() == null ? 0 : post.getUserId();
+        lengths[doc] = length;
+        docOf.put(post.getId(), doc);
+        liveCount++;
+        liveLength += length;
+    }
+
+    public boolean remove(Long postId) {
+        Integer doc = docOf.remove(postId);
+        if (doc == null) {
+            return false;
+        }
+        dead.set(doc);
+        liveCount--;
+        liveLength -= lengths[doc];
+        maybeCompact();
+        return true;
+    }
+
+    // 작성자의 게시글 전체 제거 - 문서 번호 순으로 훑는다
+    public int removeUser(Long userId) {
+        List<Long> removed = new ArrayList<>();
+        for (int doc = 0; doc < docCount; doc++) {
+            if (!dead.get(doc) && userIds[doc] == userId) {
+                removed.add(postIds[doc]);
+            }
+        }
+        removed.forEach(this::remove);
+        return removed.size();
+    }
+
+    // 점수순 offset 부터 limit 건의 게시글 id 와 전체 일치 건수. 없는 색인어가 하나라도 있으면 빈 결과
+    public Hits search(Collection<String> terms, int offset, int limit) {
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return Hits.EMPTY;
+            }
+            lists.add(list);
+        }
+        if (lists.isEmpty() || liveCount == 0) {
+            return Hits.EMPTY;
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        int termCount = lists.size();
+        float[] idf = new float[termCount];
+        for (int t = 0; t < termCount; t++) {
+            idf[t] = idf(lists.get(t).size);
+        }
+        int[] cursors = new int[termCount];
+        float averageLength = (float) liveLength / liveCount;
+        TopHits top = new TopHits(offset + limit);
+        long total = 0;
+
+        Postings lead = lists.get(0);
+        candidates:
+        for (int i = 0; i < lead.size; i++) {
+            int doc = lead.docs[i];
+            if (dead.get(doc)) {
+                continue;
+            }
+            float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            float score = termScore(lead.tfs[i], norm, idf[0]);
+            for (int t = 1; t < termCount; t++) {
+                Postings list = lists.get(t);
+                int position = list.advance(cursors[t], doc);
+                cursors[t] = position;
+                if (position == list.size) {
+                    break candidates;
+                }
+                if (list.docs[position] != doc) {
+                    continue candidates;
+                }
+                score += termScore(list.tfs[position], norm, idf[t]);
+            }
+            total++;
+            top.offer(score, postIds[doc]);
+        }
+        return new Hits(total, top.page(offset));
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    // 일괄 적재 후 늘려 둔 배열의 여유분 반납
+    public void trimToSize() {
+        postings.values().forEach(Postings::trimToSize);
+        postIds = Arrays.copyOf(postIds, Math.max(docCount, 1));
+        userIds = Arrays.copyOf(userIds, Math.max(docCount, 1));
+        lengths = Arrays.copyOf(lengths, Math.max(docCount, 1));
+    }
+
+    private float idf(int documentFrequency) {
+        // 지운 문서가 아직 df 에 남아 있을 수 있다
+        float n = Math.max(liveCount - documentFrequency, 0);
+        return (float) Math.log(1 + (n + 0.5f) / (documentFrequency + 0.5f));
+    }
+
+    private static float termScore(int tf, float norm, float idf) {
+        return idf * tf * (K1 + 1) / (tf + norm);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > postIds.length) {
+            int grown = Math.max(capacity, postIds.length + (postIds.length >> 1));
+            postIds = Arrays.copyOf(postIds, grown);
+            userIds = Arrays.copyOf(userIds, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+        }
+    }
+
+    private void maybeCompact() {
+        int deadCount = docCount - liveCount;
+        if (deadCount >= MIN_DEAD_TO_COMPACT && (long) deadCount * 4 > liveCount) {
+            compact();
+        }
+    }
+
+    // 지운 문서를 걷어내고 살아 있는 문서에 앞에서부터 번호를 다시 매긴다 (순서는 유지)
+    private void compact() {
+        int[] renumbered = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (dead.get(doc)) {
+                renumbered[doc] = -1;
+                continue;
+            }
+            renumbered[doc] = next;
+            postIds[next] = postIds[doc];
+            userIds[next] = userIds[doc];
+            lengths[next] = lengths[doc];
+            docOf.put(postIds[next], next);
+            next++;
+        }
+        postings.values().removeIf(list -> list.renumber(renumbered) == 0);
+        dead.clear();
+        docCount = next;
+    }
+
+    public record Hits(long total, List<Long> postIds) {
+        static final Hits EMPTY = new Hits(0, List.of());
+    }
+
+    // 색인어 하나의 문서 번호(오름차순)와 가중 출현 횟수
+    private static final class Postings {
+
+        private int[] docs = new int[2];
+        private byte[] tfs = new byte[2];
+        private int size;
+
+        void add(int doc, int tf) {
+            if (size == docs.length) {
+                int grown = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, grown);
+                tfs = Arrays.copyOf(tfs, grown);
+            }
+            docs[size] = doc;
+            tfs[size] = (byte) tf;
+            size++;
+        }
+
+        // from 이후에서 target 이상인 첫 위치 (없으면 size). 지수 탐색 후 이진 탐색
+        int advance(int from, int target) {
+            if (from >= size || docs[from] >= target) {
+                return from;
+            }
+            int low = from;
+            int step = 1;
+            while (low + step < size && docs[low + step] < target) {
+                low += step;
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(docs, low + 1, Math.min(low + step, size), target);
+            return found >= 0 ? found : -found - 1;
+        }
+
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    tfs[kept] = tfs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            trimToSize();
+            return kept;
+        }
+
+        void trimToSize() {
+            if (docs.length > size) {
+                docs = Arrays.copyOf(docs, size);
+                tfs = Arrays.copyOf(tfs, size);
+            }
+        }
+    }
+
+    // 점수 상위 capacity 건을 유지하는 최소 힙 (동점이면 최신 게시글 우선)
+    private static final class TopHits {
+
+        private final float[] scores;
+        private final long[] ids;
+        private int size;
+
+        TopHits(int capacity) {
+            this.scores = new float[capacity];
+            this.ids = new long[capacity];
+        }
+
+        void offer(float score, long id) {
+            if (scores.length == 0) {
+                return;
+            }
+            if (size < scores.length) {
+                scores[size] = score;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (greater(score, id, scores[0], ids[0])) {
+                scores[0] = score;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        // 점수 내림차순으로 꺼내 offset 이후만 반환
+        List<Long> page(int offset) {
+            Long[] ordered = new Long[size];
+            for (int i = size - 1; i >= 0; i--) {
+                ordered[i] = ids[0];
+                scores[0] = scores[i];
+                ids[0] = ids[i];
+                size = i;
+                siftDown(0);
+            }
+            return offset >= ordered.length ? List.of() : List.of(ordered).subList(offset, ordered.length);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >> 1;
+                if (!greater(scores[parent], ids[parent], scores[i], ids[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && greater(scores[smallest], ids[smallest], scores[left], ids[left])) {
+                    smallest = left;
+                }
+                if (right < size && greater(scores[smallest], ids[smallest], scores[right], ids[right])) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+
+        private static boolean greater(float score, long id, float otherScore, long otherId) {
+            return score > otherScore || (score == otherScore && id > otherId);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.eoullim_backend.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 한국어/영문 공용 2-gram 토크나이저.
+ * 형태소 분석 없이 글자 단위 2-gram 으로 색인하므로 조사가 붙은 어절("검색엔진을")에서도 부분 문자열("검색")이 찾아진다.
+ * 글자/숫자가 아닌 문자로 어절을 나누고, 한 글자 어절은 그 글자 자체를 색인어로 쓴다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    // 색인어별 출현 횟수
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        forEachTerm(text, term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    // 검색어의 색인어 (중복 제거, 등장 순서 유지)
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachTerm(query, terms::add);
+        return terms;
+    }
+
+    private static void forEachTerm(String text, Consumer<String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        // 전각/호환 문자와 대소문자를 맞춘다
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                emit(normalized, start, i, consumer);
+                start = -1;
+            }
+        }
+    }
+
+    private static void emit(String text, int start, int end, Consumer<String> consumer) {
+        if (end - start == 1) {
+            consumer.accept(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            consumer.accept(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.eoullim_backend.search;
+
+import com.eoullim_backend.cache.CacheInvalidationBus;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 제목/내용 검색 색인. 노드마다 메모리에 InvertedIndex 를 두고 게시글 작성/수정/삭제가 커밋된 뒤 바로 반영한다.
+ * 다시 만들기(기동 시, search.index.rebuild-cron)는 DB를 스트리밍으로 읽어 새 색인을 옆에 만들고,
+ * 그동안 들어온 변경을 새 색인에 다시 적용한 뒤 교체하므로 검색과 쓰기를 멈추지 않는다.
+ * 다른 노드에는 바뀐 게시글 id 만 전파하고, 받은 노드가 DB에서 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final String POST_REGION = "posts-search";
+    static final String USER_REGION = "posts-search-user";
+    public static final int MAX_PAGE_SIZE = 100;
+    // 점수 상위 이 건수 안에서만 페이지를 넘길 수 있다
+    public static final int MAX_RESULT_WINDOW = 1000;
+
+    private final PostRepository postRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxContentChars;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private InvertedIndex index;
+    // 다시 만드는 중에 들어온 변경 - 새 색인에 다시 적용한다 (rebuild 중에만 null 이 아님)
+    private List<Consumer<InvertedIndex>> pending;
+    private volatile boolean ready;
+
+    public PostSearchIndex(PostRepository postRepository, CacheInvalidationBus invalidationBus,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${search.index.max-content-chars:1000}") int maxContentChars) {
+        this.postRepository = postRepository;
+        this.invalidationBus = invalidationBus;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxContentChars = maxContentChars;
+        this.index = new InvertedIndex(maxContentChars);
+        invalidationBus.subscribe(message -> {
+            if (POST_REGION.equals(message.cacheName()) && message.key() instanceof Number postId) {
+                reindexFromDatabase(postId.longValue());
+            } else if (USER_REGION.equals(message.cacheName()) && message.key() instanceof Number userId) {
+                apply(current -> current.removeUser(userId.longValue()));
+            }
+        });
+    }
+
+    // 검색 - 점수 내림차순 page 번째 페이지의 게시글 id 와 전체 일치 건수
+    public InvertedIndex.Hits search(String query, int page, int size) {
+        Set<String> terms = NgramTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new RuntimeException("검색어를 입력해주세요.");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RuntimeException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 입니다.");
+        }
+        if ((long) page * size + size > MAX_RESULT_WINDOW) {
+            throw new RuntimeException("검색 결과는 상위 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+        if (!ready) {
+            throw new RuntimeException("검색 색인을 준비 중입니다.");
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(terms, page * size, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void postCreated(PostDTO post) {
+        afterCommit(() -> {
+            apply(current -> current.put(post));
+            invalidationBus.publish(POST_REGION, post.getId());
+        });
+    }
+
+    public void postUpdated(PostDTO post) {
+        postCreated(post);
+    }
+
+    public void postDeleted(Long postId) {
+        afterCommit(() -> {
+            apply(current -> current.remove(postId));
+            invalidationBus.publish(POST_REGION, postId);
+        });
+    }
+
+    // 회원 탈퇴 - 작성자의 게시글 전체
+    public void userDeleted(Long userId) {
+        afterCommit(() -> {
+            apply(current -> current.removeUser(userId));
+            invalidationBus.publish(USER_REGION, userId);
+        });
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    // 전체 다시 만들기 - 이미 진행 중이면 건너뛴다
+    @Scheduled(cron = "${search.index.rebuild-cron:-}")
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            withWriteLock(() -> pending = new ArrayList<>());
+            InvertedIndex rebuilt = new InvertedIndex(maxContentChars);
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<PostDTO> posts = postRepository.streamAllPostDTOs()) {
+                        posts.forEach(rebuilt::put);
+                    }
+                });
+            } catch (RuntimeException e) {
+                withWriteLock(() -> pending = null);
+                throw e;
+            }
+            rebuilt.trimToSize();
+            withWriteLock(() -> {
+                // 작성/수정은 교체, 삭제는 없으면 무시하므로 스트림에 이미 반영된 변경을 다시 적용해도 같다
+                pending.forEach(change -> change.accept(rebuilt));
+                pending = null;
+                index = rebuilt;
+            });
+            ready = true;
+            log.info("검색 색인 생성: 게시글 {}건, 색인어 {}개, {}ms", rebuilt.size(), rebuilt.termCount(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 다른 노드에서 바뀐 게시글 - 지금 DB 상태로 맞춘다
+    private void reindexFromDatabase(long postId) {
+        PostDTO post = postRepository.findPostDTOById(postId).orElse(null);
+        apply(current -> {
+            if (post != null) {
+                current.put(post);
+            } else {
+                current.remove(postId);
+            }
+        });
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        withWriteLock(() -> {
+            change.accept(index);
+            if (pending != null) {
+                pending.add(change);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,215 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.AccountDeletionJobDTO;
+import com.eoullim_backend.repository.CommentRepository;
+import com.eoullim_backend.repository.MessageRepository;
+import com.eoullim_backend.repository.PostLikeRepository;
+import com.eoullim_backend.repository.PostRepository;
+import com.eoullim_backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 비동기 계정 삭제 작업.
+ * 쪽지 → 댓글 → 좋아요 → 게시글 → 사용자 순으로 chunk-size 건씩 짧은 트랜잭션에서 지우므로
+ * 데이터가 많은 계정이라도 한 트랜잭션이 오래 락을 잡지 않는다. 작업은 한 번에 하나씩 순서대로 실행한다.
+ * 청크 삭제 도중에도 이 사용자에게 쪽지가 오거나 댓글/좋아요가 생길 수 있으므로, 마지막 트랜잭션에서 사용자 행을 잠근 뒤
+ * 같은 단계를 한 번 더 돌려 남은 것을 지우고 사용자를 삭제한다. 잠금 이후의 쓰기는 외래 키 검사에서 기다렸다가 실패한다.
+ * 작업 상태는 요청을 받은 노드의 메모리에만 있다 - 다른 노드에서 조회하면 404 이므로 진행 상황 조회는 같은 노드로 보내야 하고,
+ * 노드가 재시작되면 진행 중이던 작업은 사라진다 (다시 요청하면 남은 데이터부터 이어서 지운다).
+ */
+@Slf4j
+@Service
+public class AccountDeletionService {
+
+    private static final Duration FINISHED_RETENTION = Duration.ofHours(1);
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final MessageRepository messageRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "account-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AccountDeletionService(UserRepository userRepository, PostRepository postRepository,
+                                  CommentRepository commentRepository, PostLikeRepository postLikeRepository,
+                                  MessageRepository messageRepository, UserService userService,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${users.deletion.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.messageRepository = messageRepository;
+        this.userService = userService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    // 삭제 작업 등록 - 같은 사용자의 작업이 진행 중이면 그 작업을 돌려준다
+    public AccountDeletionJobDTO requestDeletion(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        removeExpiredJobs();
+        Optional<Job> active = jobs.values().stream()
+                .filter(job -> job.userId.equals(userId) && !job.isFinished())
+                .findFirst();
+        if (active.isPresent()) {
+            return active.get().toDTO();
+        }
+        Job job = new Job(UUID.randomUUID().toString(), userId);
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job));
+        return job.toDTO();
+    }
+
+    public Optional<AccountDeletionJobDTO> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toDTO);
+    }
+
+    private void run(Job job) {
+        Long userId = job.userId;
+        job.status = "RUNNING";
+        try {
+            purgeAll(job);
+
+            // 사용자 행을 잠근 뒤 청크 삭제 중에 새로 생긴 데이터를 같은 트랜잭션에서 마저 지운다
+            job.currentStep = "user";
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.lockById(userId)
+                        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+                purgeAll(job);
+                job.currentStep = "user";
+                userService.finishDeletion(userId);
+            });
+            job.status = "COMPLETED";
+            log.info("계정 삭제 완료 (userId={}, 쪽지 {}건, 댓글 {}건, 좋아요 {}건, 게시글 {}건)", userId,
+                    job.deletedMessages.get(), job.deletedComments.get(), job.deletedLikes.get(), job.deletedPosts.get());
+        } catch (RuntimeException e) {
+            job.status = "FAILED";
+            job.error = e.getMessage();
+            log.warn("계정 삭제 실패 (userId={}, 단계={}): {}", userId, job.currentStep, e.getMessage());
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    // 쪽지 → 댓글 → 좋아요 → 게시글. 트랜잭션 밖에서는 청크마다 커밋하고, 트랜잭션 안에서는 그 트랜잭션에 합류한다
+    private void purgeAll(Job job) {
+        Long userId = job.userId;
+        job.currentStep = "messages";
+        purge(page -> messageRepository.findIdsByParticipant(userId, page), ids -> {
+            userRepository.decrementUnreadCountsFor(ids);
+            messageRepository.deleteAllByIdInBatch(ids);
+        }, job.deletedMessages);
+
+        job.currentStep = "comments";
+        purge(page -> commentRepository.findIdsByUserId(userId, page), ids -> {
+            postRepository.decrementCommentCountsFor(ids);
+            commentRepository.deleteAllByIdInBatch(ids);
+        }, job.deletedComments);
+
+        job.currentStep = "likes";
+        purge(page -> postLikeRepository.findIdsByUserId(userId, page), ids -> {
+            postRepository.decrementLikeCountsFor(ids);
+            postLikeRepository.deleteAllByIdInBatch(ids);
+        }, job.deletedLikes);
+
+        // 게시글은 달린 댓글/좋아요와 함께 청크 단위로 삭제
+        job.currentStep = "posts";
+        purge(page -> postRepository.findIdsByUserId(userId, page), ids -> {
+            commentRepository.deleteAllByPostIdIn(ids);
+            postLikeRepository.deleteAllByPostIdIn(ids);
+            postRepository.deleteAllByIdInBatch(ids);
+        }, job.deletedPosts);
+    }
+
+    // 남은 id 를 chunk-size 건씩 읽어 청크마다 별도 트랜잭션으로 삭제
+    private void purge(Function<PageRequest, List<Long>> nextIds, Consumer<List<Long>> delete, AtomicLong deleted) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        while (true) {
+            List<Long> ids = nextIds.apply(page);
+            if (ids.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> delete.accept(ids));
+            deleted.addAndGet(ids.size());
+        }
+    }
+
+    private void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(FINISHED_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt.isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Long userId;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private final AtomicLong deletedMessages = new AtomicLong();
+        private final AtomicLong deletedComments = new AtomicLong();
+        private final AtomicLong deletedLikes = new AtomicLong();
+        private final AtomicLong deletedPosts = new AtomicLong();
+        private volatile String status = "PENDING";
+        private volatile String currentStep;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, Long userId) {
+            this.id = id;
+            this.userId = userId;
+        }
+
+        private boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private AccountDeletionJobDTO toDTO() {
+            return AccountDeletionJobDTO.builder()
+                    .jobId(id)
+                    .userId(userId)
+                    .status(status)
+                    .currentStep(currentStep)
+                    .deletedMessages(deletedMessages.get())
+                    .deletedComments(deletedComments.get())
+                    .deletedLikes(deletedLikes.get())
+                    .deletedPosts(deletedPosts.get())
+                    .error(error)
+                    .requestedAt(requestedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
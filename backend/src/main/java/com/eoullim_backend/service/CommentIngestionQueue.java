@@ -0,0 +1,145 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.CommentDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 작성 요청을 모아 한 트랜잭션으로 저장하는 큐 (group commit).
+ * 첫 요청이 들어온 뒤 max-wait-ms 동안, 또는 max-batch 건이 찰 때까지 모아서 CommentService.createCommentBatch 로 넘긴다.
+ * 인기 글에 댓글이 몰려도 트랜잭션/커밋 수는 묶음 수만큼만 생기고, 호출자는 자기 요청의 결과를 개별로 받는다.
+ * 묶음이 실패하면(삭제된 게시글 등) 요청마다 따로 저장해 실패 원인을 해당 요청에만 돌려준다.
+ */
+@Slf4j
+@Component
+public class CommentIngestionQueue {
+
+    private final CommentService commentService;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final BlockingQueue<Pending> queue;
+    private final DistributionSummary batchSizes;
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public CommentIngestionQueue(CommentService commentService, MeterRegistry meterRegistry,
+                                 @Value("${comments.ingest.max-batch:200}") int maxBatch,
+                                 @Value("${comments.ingest.max-wait-ms:5}") long maxWaitMillis,
+                                 @Value("${comments.ingest.queue-capacity:10000}") int queueCapacity) {
+        this.commentService = commentService;
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("comments.ingest.batch.size").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "comment-ingest");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 댓글 작성 요청 - 묶음이 커밋되면 완료된다. 큐가 가득 차면 바로 실패
+    public CompletableFuture<CommentDTO> submit(Long postId, Long userId, String content) {
+        if (postId == null || userId == null || content == null || content.isBlank()) {
+            return CompletableFuture.failedFuture(new RuntimeException("댓글 내용을 입력해주세요."));
+        }
+        Pending pending = new Pending(CommentDTO.builder().postId(postId).userId(userId).content(content).build(),
+                new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            return CompletableFuture.failedFuture(new RuntimeException("댓글 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return pending.result();
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<Pending> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("댓글 묶음 처리 중 오류", e);
+            }
+        }
+    }
+
+    // 첫 요청을 기다린 뒤 maxWait 안에 들어온 요청을 maxBatch 건까지 모은다
+    private List<Pending> nextBatch() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        Pending first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatch) {
+            if (queue.drainTo(batch, maxBatch - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void write(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        List<CommentDTO> saved;
+        try {
+            saved = commentService.createCommentBatch(batch.stream().map(Pending::request).toList());
+        } catch (RuntimeException e) {
+            log.debug("댓글 묶음 {}건 저장 실패, 개별 저장으로 재시도: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(saved.get(i));
+        }
+    }
+
+    private void writeOne(Pending pending) {
+        CommentDTO request = pending.request();
+        try {
+            pending.result().complete(commentService.createComment(request.getPostId(), request.getUserId(), request.getContent()));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    // 종료 시 큐에 남은 요청까지 저장한 뒤 멈춘다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private record Pending(CommentDTO request, CompletableFuture<CommentDTO> result) {
+    }
+}
@@ -1,28 +1,44 @@
 package com.eoullim_backend.service;
 
 import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.dto.KeysetCursor;
 import com.eoullim_backend.entity.Comment;
 import com.eoullim_backend.entity.Post;
 import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.DomainEvent;
+import com.eoullim_backend.event.DomainEventOutbox;
 import com.eoullim_backend.repository.CommentRepository;
 import com.eoullim_backend.repository.PostRepository;
 import com.eoullim_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.NonNull;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
     
+    // 대량 작성 한 번에 받는 최대 댓글 수
+    static final int MAX_BULK_SIZE = 1000;
+    // 댓글 스레드 기본 페이지 크기 - 이 크기의 첫 페이지만 comments 캐시에 저장
+    public static final int THREAD_PAGE_SIZE = 20;
+    private static final int MAX_THREAD_PAGE_SIZE = 100;
+    
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final DomainEventOutbox domainEventOutbox;
     
-    // 댓글 생성
+    // 댓글 생성 - 게시글 댓글 수 함께 증가, 캐시는 이벤트로 반영
     @Transactional
     public CommentDTO createComment(@NonNull Long postId, @NonNull Long userId, @NonNull String content) {
         Post post = postRepository.findById(postId)
@@ -38,16 +54,94 @@ public class CommentService {
                 .build();
         
         Comment savedComment = commentRepository.save(comment);
+        postRepository.adjustCommentCount(postId, 1);
+        domainEventOutbox.append(new DomainEvent.CommentsAdded(postId, 1));
         return convertToDTO(savedComment);
     }
     
-    // 게시글의 댓글 조회
+    // 댓글 대량 생성 - 존재 확인 후 참조만 걸어 저장하므로 insert 는 JDBC 배치로 묶이고 댓글 수는 한 번만 갱신
+    @Transactional
+    public List<CommentDTO> createComments(@NonNull Long postId, @NonNull Long userId, @NonNull List<String> contents) {
+        if (contents.isEmpty() || contents.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("댓글은 한 번에 1~" + MAX_BULK_SIZE + "개까지 작성할 수 있습니다.");
+        }
+        if (contents.stream().anyMatch(content -> content == null || content.isBlank())) {
+            throw new RuntimeException("댓글 내용을 입력해주세요.");
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        
+        Post post = postRepository.getReferenceById(postId);
+        User user = userRepository.getReferenceById(userId);
+        List<Comment> comments = contents.stream()
+                .map(content -> Comment.builder()
+                        .post(post)
+                        .user(user)
+                        .content(content)
+                        .build())
+                .toList();
+        
+        List<Comment> savedComments = commentRepository.saveAll(comments);
+        postRepository.adjustCommentCount(postId, savedComments.size());
+        domainEventOutbox.append(new DomainEvent.CommentsAdded(postId, savedComments.size()));
+        return savedComments.stream()
+                .map(CommentService::convertToDTO)
+                .collect(Collectors.toList());
+    }
+    
+    // 여러 요청의 댓글을 한 트랜잭션으로 생성 (CommentIngestionQueue 의 묶음 커밋)
+    // 게시글/사용자 존재는 id 목록으로 한 번씩만 확인하고, 하나라도 없으면 묶음 전체를 거절한다
+    @Transactional
+    public List<CommentDTO> createCommentBatch(@NonNull List<CommentDTO> requests) {
+        Set<Long> postIds = requests.stream().map(CommentDTO::getPostId).collect(Collectors.toSet());
+        Set<Long> userIds = requests.stream().map(CommentDTO::getUserId).collect(Collectors.toSet());
+        if (!postRepository.findExistingIds(postIds).containsAll(postIds)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        if (!userRepository.findExistingIds(userIds).containsAll(userIds)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        
+        List<Comment> savedComments = commentRepository.saveAll(requests.stream()
+                .map(request -> Comment.builder()
+                        .post(postRepository.getReferenceById(request.getPostId()))
+                        .user(userRepository.getReferenceById(request.getUserId()))
+                        .content(request.getContent())
+                        .build())
+                .toList());
+        
+        Map<Long, Long> added = requests.stream()
+                .collect(Collectors.groupingBy(CommentDTO::getPostId, Collectors.counting()));
+        added.forEach((postId, count) -> {
+            postRepository.adjustCommentCount(postId, count.intValue());
+            domainEventOutbox.append(new DomainEvent.CommentsAdded(postId, count.intValue()));
+        });
+        return savedComments.stream()
+                .map(CommentService::convertToDTO)
+                .collect(Collectors.toList());
+    }
+    
+    // 게시글의 댓글 조회 - 전체 목록 (작성순)
     @Transactional(readOnly = true)
     public List<CommentDTO> getCommentsByPost(@NonNull Long postId) {
-        return commentRepository.findByPostId(postId)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return commentRepository.findDTOsByPostId(postId);
+    }
+    
+    // 댓글 스레드 (커서 기반, 작성순) - 기본 크기의 첫 페이지는 comments 캐시에 게시글 id 로 저장
+    @Cacheable(value = "comments", key = "#postId",
+            condition = "(#cursor == null || #cursor.isBlank()) && #size == T(com.eoullim_backend.service.CommentService).THREAD_PAGE_SIZE")
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<CommentDTO> getCommentThread(@NonNull Long postId, String cursor, int size) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE)));
+        KeysetCursor after = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+        Slice<CommentDTO> slice = after == null
+                ? commentRepository.findThread(postId, page)
+                : commentRepository.findThreadAfter(postId, after.createdAt(), after.id(), page);
+        return CursorSliceDTO.of(slice, comment -> new KeysetCursor(comment.getCreatedAt(), comment.getId()));
     }
     
     // 댓글 수정
@@ -62,6 +156,7 @@ public class CommentService {
         
         comment.setContent(content);
         Comment updatedComment = commentRepository.save(comment);
+        domainEventOutbox.append(new DomainEvent.CommentUpdated(comment.getPost().getId(), id));
         return convertToDTO(updatedComment);
     }
     
@@ -75,10 +170,13 @@ public class CommentService {
             throw new RuntimeException("댓글 삭제 권한이 없습니다.");
         }
         
+        Long postId = comment.getPost().getId();
         commentRepository.deleteById(id);
+        postRepository.adjustCommentCount(postId, -1);
+        domainEventOutbox.append(new DomainEvent.CommentDeleted(postId, id));
     }
     
-    private CommentDTO convertToDTO(@NonNull Comment comment) {
+    static CommentDTO convertToDTO(@NonNull Comment comment) {
         return CommentDTO.builder()
                 .id(comment.getId())
                 .postId(comment.getPost().getId())
@@ -1,22 +1,47 @@
 package com.eoullim_backend.service;
 
+import com.eoullim_backend.counter.MessageCounters;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.dto.KeysetCursor;
 import com.eoullim_backend.dto.MessageDTO;
 import com.eoullim_backend.entity.Message;
 import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.DomainEvent;
+import com.eoullim_backend.event.DomainEventOutbox;
 import com.eoullim_backend.repository.MessageRepository;
 import com.eoullim_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MessageService {
+    private static final int MAX_PAGE_SIZE = 100;
+    // 대량 발송 한 번에 받는 최대 쪽지 수
+    static final int MAX_BULK_SIZE = 1000;
+
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final MessageCounters messageCounters;
+    private final MessageStreamRegistry messageStreamRegistry;
+    private final DomainEventOutbox domainEventOutbox;
 
+    // 쪽지 발송 - 안 읽은 수와 실시간 전달은 커밋 후 이벤트로 반영
+    @Transactional
     public MessageDTO send(Long senderId, Long recipientId, String content) {
         if (content == null || content.trim().isEmpty()) {
             throw new RuntimeException("메시지 내용을 입력해주세요.");
@@ -32,21 +57,125 @@ public class MessageService {
                 .recipient(recipient)
                 .content(content)
                 .build());
-        return toDTO(saved);
+        MessageDTO sent = toDTO(saved);
+        domainEventOutbox.append(new DomainEvent.MessagesSent(senderId, List.of(sent)));
+        return sent;
+    }
+
+    // 대량 발송 - 수신자를 한 번에 조회하고 insert 는 JDBC 배치로 묶는다. 실시간 전달은 이벤트 하나로
+    @Transactional
+    public List<MessageDTO> sendAll(Long senderId, List<MessageDTO> messages) {
+        if (messages == null || messages.isEmpty() || messages.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("쪽지는 한 번에 1~" + MAX_BULK_SIZE + "개까지 보낼 수 있습니다.");
+        }
+        if (messages.stream().anyMatch(m -> m.getRecipientId() == null
+                || m.getContent() == null || m.getContent().trim().isEmpty())) {
+            throw new RuntimeException("수신자와 메시지 내용을 입력해주세요.");
+        }
+
+        User sender = userRepository.findById(senderId)
+                .orElseThrow(() -> new RuntimeException("발신자를 찾을 수 없습니다."));
+        Set<Long> recipientIds = messages.stream().map(MessageDTO::getRecipientId).collect(Collectors.toSet());
+        Map<Long, User> recipients = userRepository.findAllById(recipientIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (recipients.size() != recipientIds.size()) {
+            throw new RuntimeException("수신자를 찾을 수 없습니다.");
+        }
+
+        List<Message> saved = messageRepository.saveAll(messages.stream()
+                .map(m -> Message.builder()
+                        .sender(sender)
+                        .recipient(recipients.get(m.getRecipientId()))
+                        .content(m.getContent())
+                        .build())
+                .toList());
+        List<MessageDTO> sent = saved.stream().map(MessageService::toDTO).toList();
+        domainEventOutbox.append(new DomainEvent.MessagesSent(senderId, sent));
+        return sent;
+    }
+
+    // 실시간 수신 연결 (SSE)
+    public SseEmitter subscribe(Long userId) {
+        return messageStreamRegistry.subscribe(userId, messageCounters.unreadCount(userId));
+    }
+
+    // 안 읽은 쪽지 수 - 메모리 값으로 응답
+    public long getUnreadCount(Long userId) {
+        return messageCounters.unreadCount(userId);
+    }
+
+    // 쪽지 하나 읽음 처리 - 이미 읽었으면 변화 없음
+    @Transactional
+    public boolean markRead(Long messageId, Long userId) {
+        int updated = messageRepository.markRead(messageId, userId, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        unreadDecreased(userId, updated);
+        return updated > 0;
+    }
+
+    // 받은 쪽지 모두 읽음 처리 - 읽음 처리된 건수 반환
+    @Transactional
+    public int markAllRead(Long userId) {
+        int updated = messageRepository.markAllRead(userId, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        unreadDecreased(userId, updated);
+        return updated;
+    }
+
+    // 읽은 사용자는 응답에서 바로 줄어든 배지를 봐야 하므로 이 노드는 커밋 직후 반영하고, 이벤트는 다른 노드용으로 남긴다
+    private void unreadDecreased(Long userId, int count) {
+        if (count > 0) {
+            domainEventOutbox.append(new DomainEvent.MessagesRead(userId, count, domainEventOutbox.nodeId()));
+            afterCommit(() -> messageStreamRegistry.unreadChanged(userId, messageCounters.adjust(userId, -count)));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     public List<MessageDTO> getReceived(Long userId) {
-        return messageRepository.findByRecipientId(userId).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findReceivedDTOs(userId);
     }
 
     public List<MessageDTO> getSent(Long userId) {
-        return messageRepository.findBySenderId(userId).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return messageRepository.findSentDTOs(userId);
     }
 
+    // 받은 쪽지함 - 커서 기반, 쪽지함 크기와 무관하게 size+1 건만 조회
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<MessageDTO> getInbox(Long userId, String cursor, int size) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        KeysetCursor after = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+        Slice<MessageDTO> slice = after == null
+                ? messageRepository.findInbox(userId, page)
+                : messageRepository.findInboxAfter(userId, after.createdAt(), after.id(), page);
+        return toSlice(slice);
+    }
+
+    // 보낸 쪽지함 - 커서 기반
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<MessageDTO> getOutbox(Long userId, String cursor, int size) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        KeysetCursor after = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+        Slice<MessageDTO> slice = after == null
+                ? messageRepository.findOutbox(userId, page)
+                : messageRepository.findOutboxAfter(userId, after.createdAt(), after.id(), page);
+        return toSlice(slice);
+    }
+
+    private static CursorSliceDTO<MessageDTO> toSlice(Slice<MessageDTO> slice) {
+        return CursorSliceDTO.of(slice, message -> new KeysetCursor(message.getCreatedAt(), message.getId()));
+    }
+
+    @Transactional
     public void delete(Long messageId, Long userId) {
         Message msg = messageRepository.findById(messageId)
                 .orElseThrow(() -> new RuntimeException("메시지를 찾을 수 없습니다."));
@@ -54,9 +183,12 @@ public class MessageService {
             throw new RuntimeException("삭제 권한이 없습니다.");
         }
         messageRepository.deleteById(messageId);
+        if (msg.getReadAt() == null) {
+            unreadDecreased(msg.getRecipient().getId(), 1);
+        }
     }
 
-    private MessageDTO toDTO(Message m) {
+    static MessageDTO toDTO(Message m) {
         return MessageDTO.builder()
                 .id(m.getId())
                 .senderId(m.getSender().getId())
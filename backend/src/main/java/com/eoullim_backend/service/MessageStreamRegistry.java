@@ -0,0 +1,92 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.MessageDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 SSE 연결 목록.
+ * SseEmitter 는 비동기 서블릿 요청이라 대기 중인 연결은 스레드를 점유하지 않으며,
+ * 연결당 비용은 소켓과 이 맵의 항목 하나뿐이다. 끊긴 연결은 전송 실패/타임아웃 시 정리된다.
+ */
+@Slf4j
+@Component
+public class MessageStreamRegistry {
+
+    private final long timeoutMillis;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public MessageStreamRegistry(@Value("${messages.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 연결 등록 - 연결 직후 현재 안 읽은 수를 보내 클라이언트가 별도 조회 없이 배지를 그린다
+    public SseEmitter subscribe(Long userId, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.compute(userId, (key, userEmitters) -> {
+            Set<SseEmitter> target = userEmitters != null ? userEmitters : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+        send(userId, emitter, SseEmitter.event().name("unread").data(unreadCount));
+        return emitter;
+    }
+
+    public void messageReceived(Long userId, MessageDTO message, long unreadCount) {
+        broadcast(userId, () -> SseEmitter.event().name("message").id(String.valueOf(message.getId())).data(message));
+        unreadChanged(userId, unreadCount);
+    }
+
+    // 다른 탭/기기에서 읽음 처리한 경우에도 배지를 맞춘다
+    public void unreadChanged(Long userId, long unreadCount) {
+        broadcast(userId, () -> SseEmitter.event().name("unread").data(unreadCount));
+    }
+
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료를 막고, 끊긴 연결을 찾아낸다
+    @Scheduled(fixedDelayString = "${messages.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) ->
+                userEmitters.forEach(emitter -> send(userId, emitter, SseEmitter.event().comment("ping"))));
+    }
+
+    // 이벤트 빌더는 전송 시 내용이 바뀌므로 연결마다 새로 만든다
+    private void broadcast(Long userId, Supplier<SseEmitter.SseEventBuilder> event) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters != null) {
+            userEmitters.forEach(emitter -> send(userId, emitter, event.get()));
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 연결 정리 (userId={}): {}", userId, e.getMessage());
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 전체 NDJSON 내보내기.
+ * 행을 fetch size 단위로 읽어 바로 응답 스트림에 쓰므로 게시글 수와 무관하게 힙 사용량이 일정하다.
+ * DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostExportService {
+
+    // 이 건수마다 응답을 내보내 클라이언트가 받는 대로 처리할 수 있게 한다
+    private static final int FLUSH_EVERY = 1000;
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+
+    // 한 줄에 게시글 하나씩 쓰고 내보낸 건수 반환. out 은 닫지 않는다
+    @Transactional(readOnly = true)
+    public long exportPosts(OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<PostDTO> posts = postRepository.streamAllPostDTOs();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 기본 구분자(공백) 대신 각 줄 끝에 직접 줄바꿈을 쓴다
+            generator.setRootValueSeparator(null);
+            Iterator<PostDTO> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                generator.writeRaw('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+}
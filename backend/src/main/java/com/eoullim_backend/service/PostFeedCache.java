@@ -0,0 +1,263 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.cache.CacheInvalidationBus;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.dto.KeysetCursor;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 최신 게시글 N개만 보관하는 피드 캐시.
+ * 보관 구간은 항상 "최신순 앞부분"이므로 그 안에 들어오는 페이지/커서 요청은 DB 없이 응답한다.
+ * 게시글 쓰기는 전체 삭제 대신 커밋 이후 해당 항목만 추가/수정/제거하고, 용량을 넘는 오래된 글은 밀어낸다.
+ * 다른 노드에는 무효화만 전파하고, 그 노드는 다음 요청에서 다시 채운다.
+ * 증분은 outbox relay 가 전달할 때 반영되므로, 커밋됐지만 아직 전달되지 않은 증분 이벤트가 있는 동안 읽은 목록은 저장하지 않는다.
+ */
+@Component
+public class PostFeedCache {
+
+    static final String REGION = "posts-feed";
+
+    // 최신순 (createdAt desc, id desc)
+    static final Comparator<PostDTO> NEWEST_FIRST = Comparator
+            .comparing(PostDTO::getCreatedAt)
+            .thenComparing(PostDTO::getId)
+            .reversed();
+
+    // 현재 값에 더하는 이벤트 - 이미 반영된 목록에 다시 적용되면 total/댓글 수가 이중으로 바뀐다
+    static final List<String> DELTA_EVENTS = List.of(
+            DomainEvent.PostCreated.class.getSimpleName(), DomainEvent.PostDeleted.class.getSimpleName(),
+            DomainEvent.CommentsAdded.class.getSimpleName(), DomainEvent.CommentDeleted.class.getSimpleName());
+
+    private final int capacity;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger writesInFlight = new AtomicInteger();
+    private volatile Snapshot snapshot;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter loads;
+
+    public PostFeedCache(@Value("${posts.feed-cache.capacity:1000}") int capacity, MeterRegistry meterRegistry,
+                         CacheInvalidationBus invalidationBus) {
+        this.capacity = capacity;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(message -> {
+            if (REGION.equals(message.cacheName())) {
+                dropLocal();
+            }
+        });
+        this.hits = Counter.builder("posts.feed.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("posts.feed.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("posts.feed.cache.evictions").register(meterRegistry);
+        this.loads = Counter.builder("posts.feed.cache.loads").register(meterRegistry);
+        Gauge.builder("posts.feed.cache.size", this, cache -> {
+            Snapshot current = cache.snapshot;
+            return current == null ? 0 : current.posts().size();
+        }).register(meterRegistry);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Optional<Snapshot> snapshot() {
+        return Optional.ofNullable(snapshot);
+    }
+
+    // DB에서 읽기 전에 호출. 진행 중인 쓰기가 있으면 읽은 결과를 캐시에 넣지 않는다.
+    public long beginLoad() {
+        return writesInFlight.get() > 0 ? -1 : generation.get();
+    }
+
+    // 최신 게시글 목록으로 캐시를 채운다. 로드 도중 쓰기가 있었거나 deltasPending 이면 결과만 돌려주고 저장하지 않는다.
+    public synchronized Snapshot install(long loadToken, List<PostDTO> newest, long total, boolean deltasPending) {
+        List<PostDTO> window = newest.size() > capacity ? newest.subList(0, capacity) : newest;
+        Snapshot loaded = new Snapshot(List.copyOf(window), total);
+        loads.increment();
+        if (!deltasPending && loadToken >= 0 && loadToken == generation.get() && writesInFlight.get() == 0) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public <T> T hit(T result) {
+        hits.increment();
+        return result;
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    // 게시글 생성 - 정렬 위치에 끼워 넣고 용량 초과분은 밀어냄
+    public void postCreated(PostDTO post) {
+        afterCommit(current -> {
+            List<PostDTO> posts = new ArrayList<>(current.posts());
+            posts.removeIf(p -> p.getId().equals(post.getId()));
+            int index = Collections.binarySearch(posts, post, NEWEST_FIRST);
+            int position = index < 0 ? -(index + 1) : index;
+            if (position < posts.size() || current.isComplete()) {
+                posts.add(position, post);
+            }
+            while (posts.size() > capacity) {
+                posts.remove(posts.size() - 1);
+                evictions.increment();
+            }
+            return new Snapshot(List.copyOf(posts), current.total() + 1);
+        });
+    }
+
+    // 게시글 수정 - 해당 항목만 교체
+    public void postUpdated(PostDTO post) {
+        patch(post.getId(), existing -> post);
+    }
+
+    public void postDeleted(Long postId) {
+        afterCommit(current -> {
+            List<PostDTO> posts = new ArrayList<>(current.posts());
+            boolean removed = posts.removeIf(p -> p.getId().equals(postId));
+            if (!removed && current.isComplete()) {
+                return current;
+            }
+            return new Snapshot(List.copyOf(posts), current.total() - 1);
+        });
+    }
+
+    public void commentCountChanged(Long postId, int delta) {
+        patch(postId, post -> post.toBuilder().commentCount(post.getCommentCount() + delta).build());
+    }
+
+    // 조회수/좋아요 수는 노드마다 자기 증분만 반영 (매 주기 전파하면 다른 노드의 피드 캐시가 계속 비워지므로)
+    public void countersFlushed(Map<Long, Long> viewDeltas, Map<Long, Long> likeDeltas) {
+        afterCommit(current -> new Snapshot(current.posts().stream()
+                .map(post -> {
+                    long views = viewDeltas.getOrDefault(post.getId(), 0L);
+                    long likes = likeDeltas.getOrDefault(post.getId(), 0L);
+                    if (views == 0 && likes == 0) {
+                        return post;
+                    }
+                    return post.toBuilder()
+                            .viewCount((int) (post.getViewCount() + views))
+                            .likeCount((int) (post.getLikeCount() + likes))
+                            .build();
+                })
+                .toList(), current.total()), false);
+    }
+
+    // 대량 변경(회원 탈퇴 등) 시 전체 무효화
+    public void invalidate() {
+        afterCommit(current -> null);
+    }
+
+    private void patch(Long postId, UnaryOperator<PostDTO> change) {
+        afterCommit(current -> new Snapshot(current.posts().stream()
+                .map(post -> post.getId().equals(postId) ? change.apply(post) : post)
+                .toList(), current.total()));
+    }
+
+    // 쓰기 트랜잭션이 커밋된 뒤에 캐시를 변경한다. 그 사이에 시작된 로드는 캐시에 저장되지 않는다.
+    private void afterCommit(UnaryOperator<Snapshot> change) {
+        afterCommit(change, true);
+    }
+
+    private void afterCommit(UnaryOperator<Snapshot> change, boolean broadcast) {
+        writesInFlight.incrementAndGet();
+        generation.incrementAndGet();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            finishWrite(change, broadcast);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                finishWrite(status == STATUS_COMMITTED ? change : null, broadcast);
+            }
+        });
+    }
+
+    private void finishWrite(UnaryOperator<Snapshot> change, boolean broadcast) {
+        synchronized (this) {
+            try {
+                Snapshot current = snapshot;
+                if (change != null && current != null) {
+                    snapshot = change.apply(current);
+                }
+            } finally {
+                generation.incrementAndGet();
+                writesInFlight.decrementAndGet();
+            }
+        }
+        if (change != null && broadcast) {
+            invalidationBus.publish(REGION, null);
+        }
+    }
+
+    // 다른 노드의 쓰기 - 로컬 스냅샷을 버리고 다음 요청에서 다시 채운다
+    private synchronized void dropLocal() {
+        snapshot = null;
+        generation.incrementAndGet();
+    }
+
+    // 불변 스냅샷 - posts 는 전체 게시글의 최신순 앞부분, total 은 전체 게시글 수
+    public record Snapshot(List<PostDTO> posts, long total) {
+
+        public boolean isComplete() {
+            return posts.size() >= total;
+        }
+
+        public Optional<Page<PostDTO>> page(int page, int size) {
+            long from = (long) page * size;
+            long to = Math.min(from + size, total);
+            if (to > posts.size()) {
+                return Optional.empty();
+            }
+            List<PostDTO> content = from >= to ? List.of() : posts.subList((int) from, (int) to);
+            return Optional.of(new PageImpl<>(content, PageRequest.of(page, size), total));
+        }
+
+        public Optional<CursorSliceDTO<PostDTO>> slice(KeysetCursor after, int size) {
+            int from = 0;
+            if (after != null) {
+                PostDTO probe = PostDTO.builder().createdAt(after.createdAt()).id(after.id()).build();
+                int index = Collections.binarySearch(posts, probe, NEWEST_FIRST);
+                from = index < 0 ? -(index + 1) : index + 1;
+            }
+            int to = from + size;
+            if (to > posts.size() && !isComplete()) {
+                return Optional.empty();
+            }
+            List<PostDTO> content = posts.subList(Math.min(from, posts.size()), Math.min(to, posts.size()));
+            boolean hasNext = to < total;
+            return Optional.of(CursorSliceDTO.of(new SliceImpl<>(content, PageRequest.of(0, size), hasNext),
+                    post -> new KeysetCursor(post.getCreatedAt(), post.getId())));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.counter.TopKRanking;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수/좋아요/인기(trending) 게시글 순위표. 조회는 DB 없이 메모리에서만 응답한다.
+ * 조회수·좋아요 순위는 기동 시 idx_post_view_count / idx_post_like_count 로 상위 N개를 읽어 채우고,
+ * 이후에는 PostCounters 가 넘겨주는 조회/좋아요 이벤트로 갱신한다.
+ * 이벤트는 요청을 받은 노드에만 들어오므로, reload-interval 마다 DB(모든 노드의 증분이 반영된 값)에서 다시 채워 노드 간 순위를 맞춘다.
+ * 인기 점수는 forward decay - 이벤트 시각 t 에 weight * 2^((t - landmark) / halfLife) 를 더하므로
+ * 기존 점수를 다시 계산하지 않아도 최근 이벤트일수록 큰 비중을 갖는다.
+ */
+@Slf4j
+@Component
+public class PostLeaderboard {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    // 지수가 이 값을 넘으면 기준 시각을 옮겨 double 범위를 유지
+    private static final double MAX_EXPONENT = 64;
+
+    private final PostRepository postRepository;
+    private final Clock clock;
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final double viewWeight;
+    private final double likeWeight;
+
+    // 다시 채울 때는 새 순위표를 만든 뒤 교체한다 (채우는 도중 빈 순위표가 보이지 않게)
+    private volatile TopKRanking<PostDTO> views;
+    private volatile TopKRanking<PostDTO> likes;
+    private volatile TopKRanking<PostDTO> trending;
+    private volatile long landmarkMillis;
+    // 다시 채우기가 겹치지 않게 한다
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    @Autowired
+    public PostLeaderboard(PostRepository postRepository,
+                           @Value("${posts.leaderboard.capacity:1000}") int capacity,
+                           @Value("${posts.leaderboard.trending-half-life:6h}") Duration halfLife,
+                           @Value("${posts.leaderboard.view-weight:1}") double viewWeight,
+                           @Value("${posts.leaderboard.like-weight:5}") double likeWeight) {
+        this(postRepository, Clock.system(KST), capacity, halfLife, viewWeight, likeWeight);
+    }
+
+    PostLeaderboard(PostRepository postRepository, Clock clock, int capacity, Duration halfLife,
+                    double viewWeight, double likeWeight) {
+        this.postRepository = postRepository;
+        this.clock = clock;
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.views = new TopKRanking<>(capacity);
+        this.likes = new TopKRanking<>(capacity);
+        this.trending = new TopKRanking<>(capacity);
+        this.landmarkMillis = clock.millis();
+    }
+
+    public List<PostDTO> mostViewed(int limit) {
+        return values(views, limit);
+    }
+
+    public List<PostDTO> mostLiked(int limit) {
+        return values(likes, limit);
+    }
+
+    public List<PostDTO> trending(int limit) {
+        return values(trending, limit);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // 조회 1회 - post 는 아직 DB에 반영되지 않은 증분까지 포함한 값
+    public void viewed(PostDTO post) {
+        views.put(post.getId(), post.getViewCount(), post);
+        likes.put(post.getId(), post.getLikeCount(), post);
+        trending.add(post.getId(), viewWeight * decayWeight(), post);
+    }
+
+    // 좋아요/취소 - 순위표에 있는 글만 갱신 (없는 글은 다음 조회 때 최신 값으로 들어온다)
+    public void liked(Long postId, int delta) {
+        likes.update(postId, entry -> new TopKRanking.Entry<>(entry.id(), entry.score() + delta,
+                withLikes(entry.value(), delta)));
+        views.update(postId, entry -> new TopKRanking.Entry<>(entry.id(), entry.score(),
+                withLikes(entry.value(), delta)));
+        double weight = likeWeight * delta * decayWeight();
+        trending.update(postId, entry -> new TopKRanking.Entry<>(entry.id(), entry.score() + weight,
+                withLikes(entry.value(), delta)));
+    }
+
+    // 게시글 수정 - 제목/내용만 교체하고 카운터는 순위표가 가진 값을 유지
+    public void postUpdated(PostDTO post) {
+        afterCommit(() -> {
+            for (TopKRanking<PostDTO> ranking : List.of(views, likes, trending)) {
+                ranking.update(post.getId(), entry -> new TopKRanking.Entry<>(entry.id(), entry.score(),
+                        entry.value().toBuilder()
+                                .title(post.getTitle())
+                                .content(post.getContent())
+                                .updatedAt(post.getUpdatedAt())
+                                .build()));
+            }
+        });
+    }
+
+    public void postDeleted(Long postId) {
+        afterCommit(() -> {
+            views.remove(postId);
+            likes.remove(postId);
+            trending.remove(postId);
+        });
+    }
+
+    // 대량 변경(회원 탈퇴 등) 후 DB에서 다시 채운다
+    public void reload() {
+        afterCommit(this::load);
+    }
+
+    // 기동 시와 주기적으로 DB에서 다시 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${posts.leaderboard.reload-interval-ms:300000}",
+               fixedDelayString = "${posts.leaderboard.reload-interval-ms:300000}")
+    public void load() {
+        loadLock.lock();
+        try {
+            loadTop();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void loadTop() {
+        TopKRanking<PostDTO> loadedViews = new TopKRanking<>(capacity);
+        TopKRanking<PostDTO> loadedLikes = new TopKRanking<>(capacity);
+        TopKRanking<PostDTO> loadedTrending = new TopKRanking<>(capacity);
+        PageRequest top = PageRequest.of(0, capacity);
+        postRepository.findMostViewed(top).forEach(post -> loadedViews.put(post.getId(), post.getViewCount(), post));
+        postRepository.findMostLiked(top).forEach(post -> loadedLikes.put(post.getId(), post.getLikeCount(), post));
+        // 이전 이벤트 시각은 알 수 없으므로 최근 글의 누적 조회/좋아요를 작성 시각에 일어난 것으로 본다
+        postRepository.findFeed(top).forEach(post -> loadedTrending.put(post.getId(),
+                (viewWeight * post.getViewCount() + likeWeight * post.getLikeCount())
+                        * decayWeight(post.getCreatedAt().atZone(KST).toInstant().toEpochMilli()),
+                post));
+        views = loadedViews;
+        likes = loadedLikes;
+        trending = loadedTrending;
+        log.debug("게시글 순위표 적재: 조회수 {}건, 좋아요 {}건, 인기 {}건", views.size(), likes.size(), trending.size());
+    }
+
+    private double decayWeight() {
+        long now = clock.millis();
+        if ((now - landmarkMillis) / halfLifeMillis > MAX_EXPONENT) {
+            rebase(now);
+        }
+        return decayWeight(now);
+    }
+
+    private double decayWeight(long eventMillis) {
+        return Math.pow(2, (eventMillis - landmarkMillis) / halfLifeMillis);
+    }
+
+    // 기준 시각을 now 로 옮기고 기존 점수를 같은 비율로 줄인다 (순위는 그대로)
+    private synchronized void rebase(long now) {
+        long landmark = landmarkMillis;
+        if ((now - landmark) / halfLifeMillis <= MAX_EXPONENT) {
+            return;
+        }
+        trending.rescale(Math.pow(2, -(now - landmark) / halfLifeMillis));
+        landmarkMillis = now;
+    }
+
+    private static PostDTO withLikes(PostDTO post, int delta) {
+        return post.toBuilder().likeCount(post.getLikeCount() + delta).build();
+    }
+
+    private static List<PostDTO> values(TopKRanking<PostDTO> ranking, int limit) {
+        return ranking.top(limit).stream().map(TopKRanking.Entry::value).toList();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
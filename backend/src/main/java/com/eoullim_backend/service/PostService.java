@@ -1,53 +1,66 @@
 package com.eoullim_backend.service;
 
+import com.eoullim_backend.counter.PostCounters;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.dto.KeysetCursor;
 import com.eoullim_backend.dto.PostDTO;
 import com.eoullim_backend.dto.PostRequestDTO;
 import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.PostLike;
 import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.DomainEvent;
+import com.eoullim_backend.event.DomainEventOutbox;
+import com.eoullim_backend.repository.PostLikeRepository;
 import com.eoullim_backend.repository.PostRepository;
 import com.eoullim_backend.repository.UserRepository;
 import com.eoullim_backend.repository.CommentRepository;
+import com.eoullim_backend.repository.OutboxEventRepository;
+import com.eoullim_backend.search.InvertedIndex;
+import com.eoullim_backend.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
     
+    private static final int MAX_FEED_SIZE = 100;
+    
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository; // 댓글 리포지토리 추가
+    private final PostFeedCache postFeedCache;
+    private final PostLikeRepository postLikeRepository;
+    private final PostCounters postCounters;
+    private final PostLeaderboard postLeaderboard;
+    private final PostSearchIndex postSearchIndex;
+    private final DomainEventOutbox domainEventOutbox;
+    private final OutboxEventRepository outboxEventRepository;
     
-    // 게시글 생성 - 캐시 삭제
+    // 게시글 생성 - 피드 캐시/검색 색인은 이벤트로 반영
     @Transactional
-    @CacheEvict(value = "posts", allEntries = true)
     public PostDTO createPost(Long userId, PostRequestDTO requestDTO) {
-        System.out.println("=== PostService.createPost ===");
-        System.out.println("요청된 userId: " + userId);
-        System.out.println("전체 사용자 수: " + userRepository.count());
-        System.out.println("사용자 존재 여부: " + userRepository.existsById(userId));
-        
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
-                    System.out.println("❌ 사용자 ID " + userId + " 를 찾을 수 없습니다");
-                    // 디버그용: 전체 사용자 목록 출력
-                    userRepository.findAll().forEach(u -> 
-                        System.out.println("기존 사용자: ID=" + u.getId() + ", Email=" + u.getEmail())
-                    );
+                    log.debug("게시글 작성 실패 - 사용자 없음: userId={}", userId);
                     return new RuntimeException("사용자를 찾을 수 없습니다.");
                 });
         
-        System.out.println("✅ 사용자 찾음: " + user.getEmail());
-        
         Post post = Post.builder()
                 .user(user)
                 .title(requestDTO.getTitle())
@@ -55,47 +68,108 @@ public class PostService {
                 .build();
         
         Post savedPost = postRepository.save(post);
-        System.out.println("✅ 게시글 저장됨: ID=" + savedPost.getId());
-        return convertToDTO(savedPost);
+        log.debug("게시글 저장: id={}, userId={}", savedPost.getId(), userId);
+        PostDTO created = convertToDTO(savedPost);
+        domainEventOutbox.append(new DomainEvent.PostCreated(created));
+        return created;
     }
     
-    // 게시글 조회 (단일) - 캐시 적용
+    // 게시글 조회 (단일) - 캐시 적용, 조회수 증가는 PostCounters 에서 처리
     @Cacheable(value = "posts", key = "#id")
+    @Transactional(readOnly = true)
     public PostDTO getPost(Long id) {
-        Post post = postRepository.findById(id)
+        return postRepository.findPostDTOById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        
-        // 조회수 증가
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
-        
-        return convertToDTO(post);
     }
     
-    // 모든 게시글 조회 - 캐시 적용
-    @Cacheable(value = "posts", key = "'all'")
+    // 모든 게시글 조회 - 피드 캐시가 전체 게시글을 담고 있을 때만 캐시에서 응답
+    @Transactional(readOnly = true)
     public List<PostDTO> getAllPosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc()
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        PostFeedCache.Snapshot feed = feedSnapshot();
+        if (feed.isComplete()) {
+            postFeedCache.recordHit();
+            return feed.posts();
+        }
+        postFeedCache.recordMiss();
+        return postRepository.findAllPostDTOs();
     }
     
-    // 페이지네이션으로 게시글 조회
+    // 페이지네이션으로 게시글 조회 (정렬은 쿼리에 포함) - 피드 캐시 구간 안이면 캐시에서 응답
+    @Transactional(readOnly = true)
     public Page<PostDTO> getPostsWithPagination(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return postRepository.findAll(pageable).map(this::convertToDTO);
+        return feedSnapshot().page(page, size).map(postFeedCache::hit).orElseGet(() -> {
+            postFeedCache.recordMiss();
+            return postRepository.findPostDTOs(PageRequest.of(page, size));
+        });
+    }
+    
+    // 커서 기반 피드 조회 - 깊은 페이지도 첫 페이지와 같은 비용
+    @Transactional(readOnly = true)
+    public CursorSliceDTO<PostDTO> getFeed(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        KeysetCursor after = (cursor == null || cursor.isBlank()) ? null : KeysetCursor.decode(cursor);
+        return feedSnapshot().slice(after, limit).map(postFeedCache::hit).orElseGet(() -> {
+            postFeedCache.recordMiss();
+            Slice<PostDTO> slice = after == null
+                    ? postRepository.findFeed(PageRequest.of(0, limit))
+                    : postRepository.findFeedAfter(after.createdAt(), after.id(), PageRequest.of(0, limit));
+            return CursorSliceDTO.of(slice, post -> new KeysetCursor(post.getCreatedAt(), post.getId()));
+        });
+    }
+    
+    // 피드 캐시 스냅샷 - 비어 있으면 최신 게시글로 채운다
+    private PostFeedCache.Snapshot feedSnapshot() {
+        Optional<PostFeedCache.Snapshot> cached = postFeedCache.snapshot();
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long loadToken = postFeedCache.beginLoad();
+        Page<PostDTO> newest = postRepository.findPostDTOs(PageRequest.of(0, postFeedCache.getCapacity()));
+        // 읽은 목록에 이미 들어간 쓰기의 이벤트가 아직 전달 전이면, 전달될 때 같은 증분이 한 번 더 더해진다
+        boolean deltasPending = loadToken >= 0 && outboxEventRepository.existsByEventTypeIn(PostFeedCache.DELTA_EVENTS);
+        return postFeedCache.install(loadToken, newest.getContent(), newest.getTotalElements(), deltasPending);
+    }
+    
+    // 인기 게시글 - 메모리 순위표에서만 조회
+    public List<PostDTO> getTrendingPosts(int limit) {
+        return postLeaderboard.trending(clampLimit(limit));
+    }
+    
+    // 조회수/좋아요 순 상위 게시글 (sort: views | likes)
+    public List<PostDTO> getTopPosts(String sort, int limit) {
+        return switch (sort) {
+            case "views" -> postLeaderboard.mostViewed(clampLimit(limit));
+            case "likes" -> postLeaderboard.mostLiked(clampLimit(limit));
+            default -> throw new RuntimeException("지원하지 않는 정렬 기준입니다: " + sort);
+        };
+    }
+    
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, Math.min(MAX_FEED_SIZE, postLeaderboard.getCapacity())));
+    }
+    
+    // 제목/내용 검색 - 색인에서 순위를 정하고 해당 페이지의 게시글만 DB에서 읽는다
+    @Transactional(readOnly = true)
+    public Page<PostDTO> searchPosts(String query, int page, int size) {
+        InvertedIndex.Hits hits = postSearchIndex.search(query, page, size);
+        if (hits.postIds().isEmpty()) {
+            return new PageImpl<>(List.of(), PageRequest.of(page, size), hits.total());
+        }
+        Map<Long, PostDTO> found = postRepository.findPostDTOsByIdIn(hits.postIds()).stream()
+                .collect(Collectors.toMap(PostDTO::getId, Function.identity()));
+        // 색인 반영 직전에 지워진 게시글은 빠진다
+        List<PostDTO> posts = hits.postIds().stream().map(found::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(posts, PageRequest.of(page, size), hits.total());
     }
     
     // 사용자별 게시글 조회
+    @Transactional(readOnly = true)
     public List<PostDTO> getUserPosts(Long userId) {
-        return postRepository.findByUserId(userId)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return postRepository.findPostDTOsByUserId(userId);
     }
     
-    // 게시글 수정
+    // 게시글 수정 - 캐시/순위표/검색 색인은 이벤트로 반영
+    @Transactional
     public PostDTO updatePost(Long id, Long userId, PostRequestDTO requestDTO) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
@@ -107,11 +181,13 @@ public class PostService {
         post.setTitle(requestDTO.getTitle());
         post.setContent(requestDTO.getContent());
         
-        Post updatedPost = postRepository.save(post);
-        return convertToDTO(updatedPost);
+        Post updatedPost = postRepository.saveAndFlush(post);
+        PostDTO updated = convertToDTO(updatedPost);
+        domainEventOutbox.append(new DomainEvent.PostUpdated(updated));
+        return updated;
     }
     
-    // 게시글 삭제 (댓글도 함께 삭제)
+    // 게시글 삭제 (댓글, 좋아요도 함께 삭제) - 댓글/좋아요 수와 무관하게 문장 수가 일정
     @Transactional
     public void deletePost(Long id, Long userId) {
         Post post = postRepository.findById(id)
@@ -121,17 +197,17 @@ public class PostService {
             throw new RuntimeException("게시글 삭제 권한이 없습니다.");
         }
         
-        // 먼저 댓글들을 삭제
-        commentRepository.deleteByPostId(id);
+        // 먼저 댓글, 좋아요를 일괄 삭제
+        commentRepository.deleteAllByPostId(id);
+        postLikeRepository.deleteAllByPostId(id);
         
-        // 그 다음 게시글 삭제
-        postRepository.deleteById(id);
+        // 그 다음 게시글 삭제 (이미 읽은 엔티티라 DELETE 한 문장)
+        postRepository.delete(post);
+        domainEventOutbox.append(new DomainEvent.PostDeleted(id));
     }
     
-    private PostDTO convertToDTO(Post post) {
-        // 댓글 수 계산
-        int commentCount = commentRepository.countByPostId(post.getId());
-        
+    // 엔티티 → DTO 변환 (DtoMappingBenchmark 에서 세 서비스의 변환을 직접 호출하므로 package-private)
+    static PostDTO convertToDTO(Post post) {
         return PostDTO.builder()
                 .id(post.getId())
                 .userId(post.getUser().getId())
@@ -139,14 +215,49 @@ public class PostService {
                 .content(post.getContent())
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
-                .commentCount(commentCount) // 댓글 수 추가
+                .commentCount(post.getCommentCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
     }
 
-    public Post toggleLike(Long id, Long userId) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'toggleLike'");
+    // 좋아요 토글 - 눌려 있으면 취소, 아니면 좋아요. 변경 후 좋아요 상태 반환
+    public boolean toggleLike(Long id, Long userId) {
+        if (unlike(id, userId)) {
+            return false;
+        }
+        like(id, userId);
+        return true;
+    }
+    
+    // 좋아요 - 이미 눌렀으면 변화 없음. 유니크 제약으로 동시 요청도 한 번만 반영
+    // 카운터는 posts 행을 바로 갱신하지 않고 PostCounters 에 모았다가 반영
+    public boolean like(Long id, Long userId) {
+        // 대부분의 중복 요청은 유니크 인덱스 조회로 걸러내고, 동시 요청만 제약 위반으로 처리
+        if (postLikeRepository.existsByPostIdAndUserId(id, userId)) {
+            return false;
+        }
+        try {
+            postLikeRepository.saveAndFlush(PostLike.builder()
+                    .post(postRepository.getReferenceById(id))
+                    .user(userRepository.getReferenceById(userId))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            if (postLikeRepository.existsByPostIdAndUserId(id, userId)) {
+                return false;
+            }
+            throw new RuntimeException("게시글 또는 사용자를 찾을 수 없습니다.");
+        }
+        postCounters.recordLike(id, 1);
+        return true;
+    }
+    
+    // 좋아요 취소 - 누르지 않았으면 변화 없음
+    public boolean unlike(Long id, Long userId) {
+        if (postLikeRepository.deleteByPostIdAndUserId(id, userId) == 0) {
+            return false;
+        }
+        postCounters.recordLike(id, -1);
+        return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.counter.PostCounters;
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.dto.PostDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * 게시글/댓글 읽기의 리액티브(Mono/Flux) 버전.
+ * 조회는 기존 서비스(피드 캐시, 댓글 첫 페이지 캐시 포함)를 그대로 쓰고, JDBC 호출만 커넥션 풀 크기의
+ * 전용 스케줄러에서 실행하므로 요청 스레드는 DB를 기다리지 않는다.
+ * 스트림은 키셋 페이지를 클라이언트가 앞 페이지를 다 받아 간 뒤에야 다음 페이지를 읽으므로
+ * 느린 클라이언트도 서버 메모리에 결과를 쌓지 않는다.
+ */
+@Service
+public class ReactiveReadService {
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final PostCounters postCounters;
+    private final int streamPageSize;
+    private final Scheduler jdbcScheduler;
+
+    public ReactiveReadService(PostService postService, CommentService commentService, PostCounters postCounters,
+                               @Value("${reactive.jdbc.threads:10}") int jdbcThreads,
+                               @Value("${reactive.stream.page-size:100}") int streamPageSize) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.postCounters = postCounters;
+        this.streamPageSize = streamPageSize;
+        this.jdbcScheduler = Schedulers.newBoundedElastic(jdbcThreads, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+                "reactive-jdbc");
+    }
+
+    // 게시글 단건 - 조회수는 올리지 않고 반영 대기 중인 증분만 더해 보여준다
+    public Mono<PostDTO> getPost(Long id) {
+        return blocking(() -> postCounters.withPendingCounts(() -> postService.getPost(id)));
+    }
+
+    public Mono<CursorSliceDTO<PostDTO>> getFeed(String cursor, int size) {
+        return blocking(() -> postService.getFeed(cursor, size));
+    }
+
+    public Mono<CursorSliceDTO<CommentDTO>> getCommentThread(Long postId, String cursor, int size) {
+        return blocking(() -> commentService.getCommentThread(postId, cursor, size));
+    }
+
+    // 전체 피드 (최신순)
+    public Flux<PostDTO> streamFeed() {
+        return pages(cursor -> postService.getFeed(cursor, streamPageSize));
+    }
+
+    // 게시글의 전체 댓글 (작성순)
+    public Flux<CommentDTO> streamComments(Long postId) {
+        return pages(cursor -> commentService.getCommentThread(postId, cursor, streamPageSize));
+    }
+
+    // 다음 페이지는 앞 페이지의 항목이 모두 소비되고 추가 요청이 올 때만 읽는다
+    private <T> Flux<T> pages(Function<String, CursorSliceDTO<T>> fetch) {
+        return blocking(() -> fetch.apply(null))
+                .expand(page -> page.isHasNext() && page.getNextCursor() != null
+                        ? blocking(() -> fetch.apply(page.getNextCursor()))
+                        : Mono.empty())
+                .concatMapIterable(CursorSliceDTO::getContent, 1);
+    }
+
+    private <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(jdbcScheduler);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jdbcScheduler.dispose();
+    }
+}
@@ -3,16 +3,21 @@ package com.eoullim_backend.service;
 import com.eoullim_backend.dto.UserDTO;
 import com.eoullim_backend.dto.UserRequestDTO;
 import com.eoullim_backend.entity.User;
-import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.event.DomainEvent;
+import com.eoullim_backend.event.DomainEventOutbox;
 import com.eoullim_backend.repository.PostRepository;
 import com.eoullim_backend.repository.MessageRepository;
 import com.eoullim_backend.repository.CommentRepository;
+import com.eoullim_backend.repository.PostLikeRepository;
 import org.springframework.transaction.annotation.Transactional;
 import com.eoullim_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -21,6 +26,8 @@ public class UserService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final MessageRepository messageRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final DomainEventOutbox domainEventOutbox;
     
     // 회원가입
     public UserDTO signup(UserRequestDTO requestDTO) {
@@ -42,22 +49,19 @@ public class UserService {
     
     // 로그인
     public UserDTO login(String email, String password) {
-        System.out.println("🔍 로그인 시도 - Email: " + email + ", Password: " + password);
-        
+        // 비밀번호는 로그에 남기지 않는다
         Optional<User> user = userRepository.findByEmail(email);
         if (user.isEmpty()) {
-            System.out.println("❌ 사용자를 찾을 수 없음: " + email);
+            log.debug("로그인 실패 - 사용자 없음: {}", email);
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
         
-        System.out.println("✅ 사용자 찾음 - DB Password: " + user.get().getPassword());
-        
         if (!user.get().getPassword().equals(password)) { // 실제로는 암호화 비교 필요
-            System.out.println("❌ 비밀번호 불일치 - 입력: " + password + ", DB: " + user.get().getPassword());
+            log.debug("로그인 실패 - 비밀번호 불일치: userId={}", user.get().getId());
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
         
-        System.out.println("🎉 로그인 성공!");
+        log.debug("로그인 성공: userId={}", user.get().getId());
         return convertToDTO(user.get());
     }
     
@@ -91,22 +95,38 @@ public class UserService {
         return convertToDTO(updatedUser);
     }
     
-    // 사용자 삭제
+    // 사용자 삭제 - 엔티티를 읽지 않는 일괄 삭제 문장들로 처리해 데이터 양과 무관하게 문장 수가 일정하다
+    // 다른 게시글의 댓글/좋아요 수도 바뀌므로 게시글/댓글 캐시와 피드 캐시는 커밋 후 이벤트로 전체 삭제
     @Transactional
     public void deleteUser(Long id) {
-        // 사용자가 주고받은 쪽지 선삭제
-        messageRepository.deleteBySenderIdOrRecipientId(id, id);
-        // 사용자가 작성한 댓글 선삭제
-        commentRepository.findByUserId(id).forEach(c -> commentRepository.deleteById(c.getId()));
-
-        // 사용자가 작성한 게시글의 댓글 선삭제 후 게시글 삭제
-        for (Post p : postRepository.findByUserId(id)) {
-            commentRepository.deleteByPostId(p.getId());
-            postRepository.deleteById(p.getId());
-        }
+        // 주고받은 쪽지 (보낸 안 읽은 쪽지만큼 수신자의 안 읽은 수 먼저 차감)
+        userRepository.decrementUnreadCountsBySender(id);
+        messageRepository.deleteAllByParticipant(id);
+        // 다른 게시글에 남긴 댓글과 좋아요 (해당 게시글의 카운터 먼저 차감)
+        postRepository.decrementCommentCountsByCommenter(id);
+        commentRepository.deleteAllByUserId(id);
+        postRepository.decrementLikeCountsByLiker(id);
+        postLikeRepository.deleteAllByUserId(id);
+        // 사용자 게시글에 달린 댓글/좋아요, 그 다음 게시글
+        commentRepository.deleteAllOnPostsOf(id);
+        postLikeRepository.deleteAllOnPostsOf(id);
+        postRepository.deleteAllByUserId(id);
 
         // 마지막으로 사용자 삭제
-        userRepository.deleteById(id);
+        userRepository.deleteAllByIdInBatch(List.of(id));
+        userDeleted(id);
+    }
+    
+    // 계정 삭제 작업(AccountDeletionService)의 마지막 단계 - 남은 데이터를 모두 지운 뒤 호출
+    @Transactional
+    public void finishDeletion(Long id) {
+        userRepository.deleteAllByIdInBatch(List.of(id));
+        userDeleted(id);
+    }
+    
+    // 삭제된 사용자의 글/댓글/좋아요/쪽지가 반영된 캐시와 메모리 상태는 이벤트로 정리
+    private void userDeleted(Long id) {
+        domainEventOutbox.append(new DomainEvent.UserDeleted(id));
     }
     
     private UserDTO convertToDTO(User user) {
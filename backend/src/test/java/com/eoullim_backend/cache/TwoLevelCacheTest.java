@@ -0,0 +1,96 @@
+package com.eoullim_backend.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 두 노드가 공유 L2 와 무효화 채널을 쓰는 상황을 메모리 구현으로 재현 (Redis 대체)
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCacheManager sharedL2;
+    private InMemoryBus channel;
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sharedL2 = new ConcurrentMapCacheManager("posts");
+        channel = new InMemoryBus();
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @Test
+    void readFillsLocalFromSharedTier() {
+        nodeA.getCache("posts").get(1L, () -> "게시글1");
+
+        assertThat(sharedL2.getCache("posts").get(1L).get()).isEqualTo("게시글1");
+        assertThat(nodeB.getCache("posts").get(1L, () -> "다시 읽으면 안 됨")).isEqualTo("게시글1");
+    }
+
+    @Test
+    void evictOnOneNodeInvalidatesOtherNodesLocalTier() {
+        nodeA.getCache("posts").get(1L, () -> "이전");
+        nodeB.getCache("posts").get(1L, () -> "이전");
+
+        nodeA.getCache("posts").evict(1L);
+
+        assertThat(nodeB.getCache("posts").get(1L, () -> "새 값")).isEqualTo("새 값");
+        assertThat(nodeA.getCache("posts").get(1L).get()).isEqualTo("새 값");
+    }
+
+    @Test
+    void clearOnOneNodeClearsOtherNodesLocalTier() {
+        nodeB.getCache("posts").get(1L, () -> "이전");
+
+        nodeA.getCache("posts").clear();
+
+        assertThat(nodeB.getCache("posts").get(1L)).isNull();
+    }
+
+    private TwoLevelCacheManager node() {
+        ConcurrentMapCacheManager local = new ConcurrentMapCacheManager("posts");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(local, sharedL2, channel.forNode());
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    // Redis pub/sub 대체 - 자기 노드가 보낸 메시지는 받지 않는다
+    private static class InMemoryBus {
+        private final List<NodeBus> nodes = new CopyOnWriteArrayList<>();
+
+        NodeBus forNode() {
+            NodeBus bus = new NodeBus(this);
+            nodes.add(bus);
+            return bus;
+        }
+
+        private record NodeBus(InMemoryBus channel, String nodeId, List<Consumer<CacheInvalidationMessage>> listeners)
+                implements CacheInvalidationBus {
+
+            NodeBus(InMemoryBus channel) {
+                this(channel, UUID.randomUUID().toString(), new CopyOnWriteArrayList<>());
+            }
+
+            @Override
+            public void publish(String cacheName, Object key) {
+                CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, cacheName, key);
+                channel.nodes.stream()
+                        .filter(node -> !node.nodeId.equals(nodeId))
+                        .forEach(node -> node.listeners.forEach(listener -> listener.accept(message)));
+            }
+
+            @Override
+            public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+                listeners.add(listener);
+            }
+        }
+    }
+}
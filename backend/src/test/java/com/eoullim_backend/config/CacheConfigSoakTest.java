@@ -0,0 +1,66 @@
+package com.eoullim_backend.config;
+
+import com.eoullim_backend.dto.PostDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서로 다른 게시글 id 를 대량으로 읽어도 posts 캐시가 설정한 크기 이상으로 커지지 않는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cache-soak;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "cache.regions.posts.maximum-size=1000"
+})
+class CacheConfigSoakTest {
+
+    private static final int DISTINCT_IDS = 2_000_000;
+    private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+
+    @Autowired private CacheManager cacheManager;
+
+    @Test
+    void postsCacheStaysBoundedUnderDistinctKeys() {
+        Cache posts = cacheManager.getCache("posts");
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) posts.getNativeCache();
+
+        readDistinctIds(posts, 0, DISTINCT_IDS / 10);
+        nativeCache.cleanUp();
+        long heapAfterWarmup = usedHeapAfterGc();
+
+        readDistinctIds(posts, DISTINCT_IDS / 10, DISTINCT_IDS);
+        nativeCache.cleanUp();
+        long heapAfterSoak = usedHeapAfterGc();
+
+        assertThat(nativeCache.estimatedSize()).isLessThanOrEqualTo(1000);
+        assertThat(nativeCache.stats().evictionCount()).isGreaterThanOrEqualTo(DISTINCT_IDS - 1000);
+        assertThat(heapAfterSoak - heapAfterWarmup).isLessThan(MAX_HEAP_GROWTH);
+    }
+
+    // @Cacheable 과 같은 경로 (캐시 미스 시 값 생성 후 저장)
+    private void readDistinctIds(Cache posts, long from, long to) {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = from; id < to; id++) {
+            long postId = id;
+            posts.get(postId, () -> PostDTO.builder()
+                    .id(postId).userId(1L).title("제목").content("내용")
+                    .viewCount(0).likeCount(0).commentCount(0)
+                    .createdAt(now).updatedAt(now)
+                    .build());
+        }
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
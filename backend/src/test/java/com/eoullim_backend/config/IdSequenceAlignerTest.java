@@ -0,0 +1,54 @@
+package com.eoullim_backend.config;
+
+import com.eoullim_backend.entity.Message;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.MessageRepository;
+import com.eoullim_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// IDENTITY 시절에 쌓인 행이 있어도 시퀀스를 MAX(id) 뒤로 맞춰 새 insert 가 기본 키와 겹치지 않는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:id-sequence-aligner;DB_CLOSE_DELAY=-1",
+        "outbox.relay.enabled=false"
+})
+class IdSequenceAlignerTest {
+
+    private static final long LEGACY_MAX_ID = 10_000;
+
+    @Autowired private IdSequenceAligner idSequenceAligner;
+    @Autowired private MessageRepository messageRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void newIdsStartAfterExistingRows() {
+        User sender = userRepository.save(User.builder().email("legacy-id-a@example.com").password("pw").username("발신").build());
+        User recipient = userRepository.save(User.builder().email("legacy-id-b@example.com").password("pw").username("수신").build());
+        // 시퀀스를 거치지 않고 들어간 기존 행
+        for (long id = LEGACY_MAX_ID - 99; id <= LEGACY_MAX_ID; id++) {
+            jdbcTemplate.update("INSERT INTO messages (id, sender_id, recipient_id, content, created_at) VALUES (?, ?, ?, ?, ?)",
+                    id, sender.getId(), recipient.getId(), "예전 쪽지", LocalDateTime.now());
+        }
+
+        idSequenceAligner.align();
+        // 이미 앞서 있으면 다시 돌려도 그대로
+        idSequenceAligner.align();
+
+        List<Message> saved = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            saved.add(Message.builder().sender(sender).recipient(recipient).content("새 쪽지 " + i).build());
+        }
+        assertThat(messageRepository.saveAll(saved)).allSatisfy(message ->
+                assertThat(message.getId()).isGreaterThan(LEGACY_MAX_ID));
+        assertThat(messageRepository.count()).isEqualTo(160);
+    }
+}
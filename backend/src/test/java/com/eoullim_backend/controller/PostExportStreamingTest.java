@@ -0,0 +1,104 @@
+package com.eoullim_backend.controller;
+
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 서버(Tomcat)를 통해 내보내기를 천천히 받아도 기본 비동기 제한 시간에 끊기지 않고 끝까지 오는지 확인
+// 기본 제한 시간을 1초로 줄이고, 클라이언트가 읽는 속도를 늦춰 응답이 그보다 오래 걸리게 한다
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-export-streaming;DB_CLOSE_DELAY=-1",
+        "outbox.relay.enabled=false",
+        "spring.mvc.async.request-timeout=1s",
+        "streaming.request-timeout=1m"
+})
+class PostExportStreamingTest {
+
+    private static final int ROWS = 50_000;
+    private static final long MIN_STREAM_MILLIS = 3_000;
+
+    @LocalServerPort private int port;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void slowExportOutlivesTheDefaultAsyncTimeout() throws Exception {
+        Long userId = userRepository.save(User.builder().email("export-stream@example.com").password("pw").username("내보내기").build()).getId();
+        jdbcTemplate.update("INSERT INTO posts (id, user_id, title, content, view_count, like_count, comment_count, created_at, updated_at)"
+                + " SELECT X, ?, CONCAT('게시글 ', X), REPEAT('내용 ', 100), 0, 0, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP"
+                + " FROM SYSTEM_RANGE(1, ?)", userId, ROWS);
+
+        HttpURLConnection connection = (HttpURLConnection) URI.create("http://localhost:" + port + "/api/posts/export")
+                .toURL().openConnection();
+        long started = System.nanoTime();
+        long lines = 0;
+        try (InputStream in = new ThrottledInputStream(connection.getInputStream());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                assertThat(line).startsWith("{").endsWith("}");
+                lines++;
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(elapsedMillis).isGreaterThan(MIN_STREAM_MILLIS);
+        assertThat(lines).isEqualTo(ROWS);
+    }
+
+    // 64KB 마다 10ms 쉬는 느린 클라이언트
+    private static final class ThrottledInputStream extends InputStream {
+
+        private static final int CHUNK = 64 * 1024;
+
+        private final InputStream in;
+        private int sinceSleep;
+
+        ThrottledInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public int read() throws java.io.IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws java.io.IOException {
+            if (sinceSleep >= CHUNK) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sinceSleep = 0;
+            }
+            int read = in.read(buffer, offset, Math.min(length, CHUNK - sinceSleep));
+            if (read > 0) {
+                sinceSleep += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws java.io.IOException {
+            in.close();
+        }
+    }
+}
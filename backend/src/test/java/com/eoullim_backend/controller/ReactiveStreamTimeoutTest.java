@@ -0,0 +1,42 @@
+package com.eoullim_backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// /api/reactive 의 NDJSON 스트림이 기본 비동기 제한 시간이 아니라 streaming.request-timeout 으로 비동기 처리를 시작하는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-stream-timeout;DB_CLOSE_DELAY=-1",
+        "outbox.relay.enabled=false",
+        "spring.mvc.async.request-timeout=1s",
+        "streaming.request-timeout=45m"
+})
+@AutoConfigureMockMvc
+class ReactiveStreamTimeoutTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @Test
+    void streamEndpointsUseStreamingTimeout() throws Exception {
+        for (String uri : List.of("/api/reactive/posts/stream", "/api/reactive/posts/1/comments/stream")) {
+            MvcResult started = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_NDJSON)).andReturn();
+            assertThat(started.getRequest().isAsyncStarted()).as(uri).isTrue();
+            assertThat(started.getRequest().getAsyncContext().getTimeout()).as(uri)
+                    .isEqualTo(Duration.ofMinutes(45).toMillis());
+
+            started.getAsyncResult(Duration.ofSeconds(10).toMillis());
+            assertThat(mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getStatus()).as(uri).isEqualTo(200);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.eoullim_backend.event;
+
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.dto.PostRequestDTO;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.UserRepository;
+import com.eoullim_backend.service.CommentService;
+import com.eoullim_backend.service.PostFeedCache;
+import com.eoullim_backend.service.PostService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 이벤트가 쓰기와 같은 트랜잭션에 저장되고, relay 가 순서대로 최소 한 번 전달하는지 확인
+// relay 스레드는 끄고 drain 으로 전달 시점을 정한다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-relay;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "outbox.relay.enabled=false",
+        "outbox.relay.max-attempts=3"
+})
+@Import(OutboxRelayTest.RecorderConfig.class)
+class OutboxRelayTest {
+
+    @Autowired private PostService postService;
+    @Autowired private CommentService commentService;
+    @Autowired private PostFeedCache postFeedCache;
+    @Autowired private UserRepository userRepository;
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private Recorder recorder;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.drain();
+        recorder.reset();
+        userId = userRepository.save(User.builder()
+                .email("outbox-" + System.nanoTime() + "@example.com").password("pw").username("아웃박스").build()).getId();
+    }
+
+    @Test
+    void eventIsCommittedWithTheWriteAndAppliedByTheRelay() {
+        PostDTO post = postService.createPost(userId, new PostRequestDTO(userId, "아웃박스 검색", "내용"));
+
+        // 쓰기는 이벤트 저장까지만 하고, 구독자 반영은 relay 가 한다
+        assertThat(pendingEvents()).isEqualTo(1);
+        assertThat(searchIds("아웃박스")).doesNotContain(post.getId());
+
+        assertThat(outboxRelay.drain()).isEqualTo(1);
+
+        assertThat(pendingEvents()).isZero();
+        assertThat(searchIds("아웃박스")).contains(post.getId());
+        assertThat(recorder.delivered).containsExactly("PostCreated:" + post.getId());
+    }
+
+    // 쓰기 커밋과 relay 전달 사이에 피드 캐시를 읽어도, 전달된 증분이 읽은 목록에 한 번 더 더해지지 않는다
+    @Test
+    void feedLoadedBeforeDeliveryIsNotPatchedTwice() {
+        postFeedCache.invalidate();
+        PostDTO post = postService.createPost(userId, new PostRequestDTO(userId, "전달 전 로드", "내용"));
+        commentService.createComment(post.getId(), userId, "댓글");
+
+        // 읽은 목록에는 새 글과 댓글 수가 이미 들어 있다
+        assertThat(postService.getAllPosts()).filteredOn(p -> p.getId().equals(post.getId()))
+                .extracting(PostDTO::getCommentCount).containsExactly(1);
+        outboxRelay.drain();
+
+        List<PostDTO> feed = postService.getAllPosts();
+        long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class);
+        assertThat(feed).hasSize((int) total);
+        assertThat(postFeedCache.snapshot()).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.total()).isEqualTo(total);
+            assertThat(snapshot.isComplete()).isTrue();
+            assertThat(snapshot.posts()).filteredOn(p -> p.getId().equals(post.getId()))
+                    .extracting(PostDTO::getCommentCount).containsExactly(1);
+        });
+    }
+
+    @Test
+    void rolledBackWriteLeavesNoEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.createPost(userId, new PostRequestDTO(userId, "롤백", "내용"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(pendingEvents()).isZero();
+    }
+
+    @Test
+    void failedDeliveryIsRetriedInAggregateOrder() {
+        PostDTO post = postService.createPost(userId, new PostRequestDTO(userId, "순서", "내용"));
+        postService.updatePost(post.getId(), userId, new PostRequestDTO(userId, "순서 수정", "내용"));
+        postService.deletePost(post.getId(), userId);
+        recorder.failNext("PostUpdated", 2);
+
+        // 묶음이 실패하면 한 건씩 전달하고, 실패한 이벤트 뒤의 이벤트는 기다린다
+        outboxRelay.drain();
+        assertThat(pendingEvents()).isEqualTo(2);
+        outboxRelay.drain();
+
+        assertThat(pendingEvents()).isZero();
+        // 묶음 롤백으로 PostCreated 는 다시 전달된다 (at-least-once), 성공한 전달은 쓰기 순서
+        assertThat(recorder.delivered).containsExactly(
+                "PostCreated:" + post.getId(),
+                "PostCreated:" + post.getId(),
+                "PostUpdated:" + post.getId(),
+                "PostDeleted:" + post.getId());
+        assertThat(searchIds("순서")).doesNotContain(post.getId());
+    }
+
+    @Test
+    void eventFailingMaxAttemptsIsDroppedAndTheRestContinue() {
+        PostDTO broken = postService.createPost(userId, new PostRequestDTO(userId, "실패", "내용"));
+        postService.updatePost(broken.getId(), userId, new PostRequestDTO(userId, "실패 수정", "내용"));
+        PostDTO next = postService.createPost(userId, new PostRequestDTO(userId, "다음", "내용"));
+        recorder.failNext("PostUpdated", Integer.MAX_VALUE);
+
+        for (int i = 0; i < 3; i++) {
+            outboxRelay.drain();
+        }
+
+        assertThat(pendingEvents()).isZero();
+        assertThat(recorder.delivered).endsWith("PostCreated:" + next.getId());
+        assertThat(recorder.delivered).doesNotContain("PostUpdated:" + broken.getId());
+    }
+
+    private int pendingEvents() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+
+    private List<Long> searchIds(String query) {
+        return postService.searchPosts(query, 0, 10).map(PostDTO::getId).getContent();
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+        @Bean
+        Recorder recorder() {
+            return new Recorder();
+        }
+    }
+
+    // 전달된 게시글 이벤트를 기록하고, 지정한 종류의 전달을 정해진 횟수만큼 실패시킨다
+    static class Recorder {
+
+        final List<String> delivered = new CopyOnWriteArrayList<>();
+        private volatile String failType;
+        private final AtomicInteger failures = new AtomicInteger();
+
+        void reset() {
+            delivered.clear();
+            failType = null;
+        }
+
+        void failNext(String type, int times) {
+            failType = type;
+            failures.set(times);
+        }
+
+        @EventListener
+        public void on(DomainEvent event) {
+            String type = event.getClass().getSimpleName();
+            if (type.equals(failType) && failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("구독자 실패: " + type);
+            }
+            delivered.add(type + ":" + event.aggregateId());
+        }
+    }
+}
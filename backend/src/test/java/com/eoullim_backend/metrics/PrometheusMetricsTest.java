@@ -0,0 +1,52 @@
+package com.eoullim_backend.metrics;
+
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청/서비스 메서드 타이머, 요청당 문장 수, 캐시와 커넥션 풀 지표가 /actuator/prometheus 로 나오는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prometheus-metrics;DB_CLOSE_DELAY=-1",
+        "outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class PrometheusMetricsTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+
+    @Test
+    void hotPathMetricsAreScraped() throws Exception {
+        Long userId = userRepository.save(User.builder()
+                .email("metrics@example.com").password("pw").username("지표").build()).getId();
+        mockMvc.perform(post("/api/posts").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + userId + ",\"title\":\"제목\",\"content\":\"내용\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/posts/page").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("service_method_seconds_bucket\\{[^}]*class=\"PostService\"[^}]*method=\"createPost\"")
+                .containsPattern("http_server_requests_statements_count\\{[^}]*method=\"POST\"[^}]*uri=\"/api/posts\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"posts\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"messages.unread\"")
+                .contains("hikaricp_connections_pending{");
+    }
+}
@@ -0,0 +1,174 @@
+package com.eoullim_backend.metrics;
+
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+// 게시글/댓글/쪽지 엔드포인트가 선언한 SQL 문장 예산 안에서 응답하는지 확인
+// fail 모드라 예산을 넘는 문장은 실행되는 순간 실패한다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;DB_CLOSE_DELAY=-1",
+        "outbox.relay.enabled=false",
+        "statements.budget.mode=fail"
+})
+@AutoConfigureMockMvc
+class StatementBudgetTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ObjectMapper objectMapper;
+    @Value("${statements.budget.default}") private int defaultBudget;
+
+    private Long author;
+    private Long reader;
+
+    @BeforeEach
+    void setUp() {
+        author = newUser();
+        reader = newUser();
+    }
+
+    @Test
+    void postEndpointsStayWithinBudget() throws Exception {
+        long postId = withinBudget(post("/api/posts").contentType(MediaType.APPLICATION_JSON)
+                .content(json(author, "예산 제목", "예산 내용"))).get("id").asLong();
+        withinBudget(post("/api/posts").contentType(MediaType.APPLICATION_JSON)
+                .content(json(author, "두 번째", "내용")));
+
+        withinBudget(get("/api/posts"));
+        withinBudget(get("/api/posts/page").param("page", "0").param("size", "10"));
+        withinBudget(get("/api/posts/feed").param("size", "10"));
+        withinBudget(get("/api/posts/search").param("q", "예산"));
+        withinBudget(get("/api/posts/trending"));
+        withinBudget(get("/api/posts/top").param("sort", "likes"));
+        withinBudget(get("/api/posts/" + postId));
+        withinBudget(get("/api/posts/" + postId));
+        // 없는 게시글도 캐시 로더와 서비스가 같은 조회를 두 번 하지 않는다
+        withinBudget(get("/api/posts/" + (postId + 1_000_000)), 404);
+        withinBudget(get("/api/posts/user/" + author));
+        withinBudget(put("/api/posts/" + postId).contentType(MediaType.APPLICATION_JSON)
+                .content(json(author, "예산 제목 수정", "예산 내용")));
+        withinBudget(post("/api/posts/" + postId + "/comments").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":" + reader + ",\"content\":\"댓글\"}"));
+        withinBudget(get("/api/posts/" + postId + "/comments"));
+        withinBudget(post("/api/posts/" + postId + "/like").param("userId", reader.toString()));
+        withinBudget(put("/api/posts/" + postId + "/like").param("userId", reader.toString()));
+        withinBudget(delete("/api/posts/" + postId + "/like").param("userId", reader.toString()));
+        withinBudget(get("/api/posts/export"));
+        withinBudget(delete("/api/posts/" + postId).param("userId", author.toString()));
+    }
+
+    @Test
+    void commentEndpointsStayWithinBudget() throws Exception {
+        long postId = withinBudget(post("/api/posts").contentType(MediaType.APPLICATION_JSON)
+                .content(json(author, "댓글 예산", "내용"))).get("id").asLong();
+
+        withinBudget(post("/api/comments").param("postId", String.valueOf(postId)).param("userId", reader.toString())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"댓글\"}"));
+        JsonNode bulk = withinBudget(post("/api/comments/bulk")
+                .param("postId", String.valueOf(postId)).param("userId", reader.toString())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"contents\":[\"하나\",\"둘\",\"셋\"]}"));
+        long commentId = bulk.get(0).get("id").asLong();
+
+        withinBudget(get("/api/comments/post/" + postId));
+        withinBudget(get("/api/comments/post/" + postId + "/thread"));
+        withinBudget(get("/api/comments/post/" + postId + "/thread"));
+        withinBudget(put("/api/comments/" + commentId).param("userId", reader.toString())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"수정\"}"));
+        withinBudget(delete("/api/comments/" + commentId).param("userId", reader.toString()));
+    }
+
+    @Test
+    void messageEndpointsStayWithinBudget() throws Exception {
+        long messageId = withinBudget(post("/api/messages")
+                .param("senderId", author.toString()).param("recipientId", reader.toString())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"안녕\"}")).get("id").asLong();
+        withinBudget(post("/api/messages/bulk").param("senderId", author.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"recipientId\":" + reader + ",\"content\":\"하나\"},"
+                        + "{\"recipientId\":" + reader + ",\"content\":\"둘\"}]"));
+
+        withinBudget(get("/api/messages/received/" + reader));
+        withinBudget(get("/api/messages/sent/" + author));
+        withinBudget(get("/api/messages/inbox/" + reader));
+        withinBudget(get("/api/messages/outbox/" + author));
+        withinBudget(get("/api/messages/unread/" + reader));
+        withinBudget(put("/api/messages/" + messageId + "/read").param("userId", reader.toString()));
+        withinBudget(put("/api/messages/read/" + reader));
+        withinBudget(delete("/api/messages/" + messageId).param("userId", reader.toString()));
+    }
+
+    @Test
+    void counterFailsOnTheFirstStatementOverTheLimit() {
+        StatementCounter counter = new StatementCounter();
+        counter.start(2);
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+
+        assertThatThrownBy(() -> counter.inspect("select 3"))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("select 3");
+        assertThat(counter.stop()).isEqualTo(3);
+        // 세기를 끝낸 스레드는 더 이상 세지 않는다
+        assertThat(counter.inspect("select 4")).isEqualTo("select 4");
+    }
+
+    // 2xx 로 응답했고 센 문장 수가 엔드포인트 예산 이하인지 확인하고 응답 본문 반환
+    private JsonNode withinBudget(MockHttpServletRequestBuilder request) throws Exception {
+        return withinBudget(request, null);
+    }
+
+    // expectedStatus 가 null 이면 2xx
+    private JsonNode withinBudget(MockHttpServletRequestBuilder request, Integer expectedStatus) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult();
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        Integer statements = (Integer) result.getRequest().getAttribute(StatementBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE);
+        String endpoint = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+
+        if (expectedStatus == null) {
+            assertThat(result.getResponse().getStatus()).as(endpoint).isBetween(200, 299);
+        } else {
+            assertThat(result.getResponse().getStatus()).as(endpoint).isEqualTo(expectedStatus);
+        }
+        assertThat(statements).as(endpoint).isNotNull().isLessThanOrEqualTo(budgetOf(result));
+        String body = result.getResponse().getContentAsString();
+        return body.isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(body);
+    }
+
+    private int budgetOf(MvcResult result) {
+        StatementBudget budget = ((HandlerMethod) result.getHandler()).getMethodAnnotation(StatementBudget.class);
+        return budget != null ? budget.value() : defaultBudget;
+    }
+
+    private Long newUser() {
+        return userRepository.save(User.builder()
+                .email("budget-" + System.nanoTime() + "@example.com").password("pw").username("예산").build()).getId();
+    }
+
+    private String json(Long userId, String title, String content) {
+        return "{\"userId\":" + userId + ",\"title\":\"" + title + "\",\"content\":\"" + content + "\"}";
+    }
+}
@@ -0,0 +1,85 @@
+package com.eoullim_backend.search;
+
+import com.eoullim_backend.dto.PostDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2-gram 토큰화, AND 검색과 점수, 수정/삭제/압축 확인 (DB 없이)
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex(1000);
+
+    @Test
+    void tokenizesKoreanIntoBigrams() {
+        assertThat(NgramTokenizer.queryTerms("검색엔진을 만든다")).containsExactly("검색", "색엔", "엔진", "진을", "만든", "든다");
+        // 한 글자 어절과 전각/대문자 정규화
+        assertThat(NgramTokenizer.queryTerms("새 ＪＡＶＡ")).containsExactly("새", "ja", "av", "va");
+        assertThat(NgramTokenizer.queryTerms(" !? ")).isEmpty();
+    }
+
+    @Test
+    void findsPostsContainingAllTermsRankedByRelevance() {
+        index.put(post(1, 1, "오늘의 일기", "검색엔진을 공부했다"));
+        index.put(post(2, 1, "검색 엔진 입문", "역색인과 점수 계산"));
+        index.put(post(3, 2, "점심 메뉴", "김치찌개"));
+
+        // 조사가 붙은 어절도 찾는다
+        assertThat(search("검색")).containsExactly(2L, 1L);
+        // 모든 색인어를 포함해야 한다
+        assertThat(search("검색 김치")).isEmpty();
+        assertThat(search("없는말")).isEmpty();
+        assertThat(index.search(NgramTokenizer.queryTerms("검색"), 0, 1).total()).isEqualTo(2);
+    }
+
+    @Test
+    void pagesByScoreThenNewestPost() {
+        IntStream.rangeClosed(1, 25).forEach(i -> index.put(post(i, 1, "같은 제목", "내용")));
+
+        InvertedIndex.Hits second = index.search(NgramTokenizer.queryTerms("제목"), 10, 10);
+
+        assertThat(second.total()).isEqualTo(25);
+        assertThat(second.postIds()).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+        assertThat(index.search(NgramTokenizer.queryTerms("제목"), 30, 10).postIds()).isEmpty();
+    }
+
+    @Test
+    void updateReplacesAndDeleteRemoves() {
+        index.put(post(1, 1, "여름 휴가", "바다"));
+        index.put(post(2, 2, "여름 준비", "수영"));
+
+        index.put(post(1, 1, "겨울 휴가", "스키"));
+        assertThat(search("여름")).containsExactly(2L);
+        assertThat(search("겨울")).containsExactly(1L);
+
+        index.remove(2L);
+        assertThat(search("여름")).isEmpty();
+        assertThat(index.removeUser(1L)).isEqualTo(1);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void compactionKeepsLiveDocuments() {
+        IntStream.rangeClosed(1, 5000).forEach(i -> index.put(post(i, i % 7, "공지 " + i, "본문")));
+        // 절반을 지워 압축을 일으킨다
+        IntStream.rangeClosed(1, 5000).filter(i -> i % 2 == 0).forEach(i -> index.remove((long) i));
+        index.put(post(4999, 1, "수정된 공지", "본문"));
+
+        assertThat(index.size()).isEqualTo(2500);
+        InvertedIndex.Hits hits = index.search(NgramTokenizer.queryTerms("공지"), 0, 3);
+        assertThat(hits.total()).isEqualTo(2500);
+        assertThat(search("수정")).containsExactly(4999L);
+        assertThat(index.removeUser(3L)).isEqualTo(357);
+    }
+
+    private List<Long> search(String query) {
+        return index.search(NgramTokenizer.queryTerms(query), 0, 10).postIds();
+    }
+
+    private static PostDTO post(long id, long userId, String title, String content) {
+        return PostDTO.builder().id(id).userId(userId).title(title).content(content).build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.eoullim_backend.search;
+
+import com.eoullim_backend.dto.PostDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 100만 건 색인에서 검색 p99 가 10ms 안인지 확인 (pom 의 search-latency 실행에서 별도 JVM 으로 돌린다)
+class PostSearchLatencyTest {
+
+    private static final int POSTS = 1_000_000;
+    private static final int WORDS = 20_000;
+    private static final int QUERIES = 2_000;
+    private static final long P99_LIMIT_NANOS = 10_000_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void searchP99StaysUnderTenMillisecondsOnAMillionPosts() {
+        String[] vocabulary = vocabulary();
+        InvertedIndex index = new InvertedIndex(1000);
+        for (long id = 1; id <= POSTS; id++) {
+            index.put(PostDTO.builder()
+                    .id(id)
+                    .userId(id % 10_000)
+                    .title(sentence(vocabulary, 4))
+                    .content(sentence(vocabulary, 40))
+                    .build());
+        }
+        index.trimToSize();
+
+        // 한 단어 / 두 단어 검색을 섞는다. 앞쪽 절반은 JIT 워밍업
+        long[] elapsed = new long[QUERIES];
+        long matched = 0;
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < QUERIES; i++) {
+                String query = word(vocabulary) + (i % 2 == 0 ? "" : " " + word(vocabulary));
+                Set<String> terms = NgramTokenizer.queryTerms(query);
+                long started = System.nanoTime();
+                InvertedIndex.Hits hits = index.search(terms, 0, 10);
+                elapsed[i] = System.nanoTime() - started;
+                matched += hits.total();
+            }
+        }
+        Arrays.sort(elapsed);
+        long p99 = elapsed[QUERIES * 99 / 100];
+
+        assertThat(matched).isPositive();
+        assertThat(p99).isLessThan(P99_LIMIT_NANOS);
+    }
+
+    // 2~3 음절 한글 단어 (빈도는 앞쪽 단어일수록 높게)
+    private String[] vocabulary() {
+        String[] words = new String[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            StringBuilder word = new StringBuilder();
+            int syllables = 2 + random.nextInt(2);
+            for (int s = 0; s < syllables; s++) {
+                word.append((char) ('가' + random.nextInt(2350)));
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+
+    private String sentence(String[] vocabulary, int words) {
+        List<String> picked = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) {
+            picked.add(word(vocabulary));
+        }
+        return String.join(" ", picked);
+    }
+
+    private String word(String[] vocabulary) {
+        double skew = random.nextDouble();
+        return vocabulary[(int) (skew * skew * vocabulary.length)];
+    }
+}
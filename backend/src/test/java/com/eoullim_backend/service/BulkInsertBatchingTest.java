@@ -0,0 +1,90 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.counter.MessageCounters;
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.MessageDTO;
+import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.OutboxRelay;
+import com.eoullim_backend.repository.PostRepository;
+import com.eoullim_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대량 작성이 시퀀스 id 선할당 + JDBC 배치로 행 수보다 훨씬 적은 문장으로 끝나는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-insert;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "messages.unread.flush-interval-ms=3600000"
+})
+class BulkInsertBatchingTest {
+
+    private static final int ROWS = 1000;
+
+    @Autowired private CommentService commentService;
+    @Autowired private MessageService messageService;
+    @Autowired private MessageCounters messageCounters;
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void createCommentsInsertsInBatches() {
+        User author = userRepository.save(User.builder().email("bulk-comment@example.com").password("pw").username("작성자").build());
+        Long postId = postRepository.save(Post.builder().user(author).title("대량 댓글").content("내용").build()).getId();
+        List<String> contents = IntStream.range(0, ROWS).mapToObj(i -> "댓글 " + i).toList();
+        Statistics statistics = statistics();
+
+        List<CommentDTO> created = commentService.createComments(postId, author.getId(), contents);
+
+        assertThat(created).hasSize(ROWS);
+        assertThat(created).extracting(CommentDTO::getId).doesNotHaveDuplicates().doesNotContainNull();
+        // 행마다 insert 했다면 1000회 이상 - 배치(50건)와 시퀀스 선할당(50개)으로 수십 회 이내
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE post_id = ?", Long.class, postId))
+                .isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = ?", Integer.class, postId))
+                .isEqualTo(ROWS);
+    }
+
+    @Test
+    void sendAllInsertsInBatchesAndCountsUnread() {
+        Long sender = userRepository.save(User.builder().email("bulk-sender@example.com").password("pw").username("보낸이").build()).getId();
+        List<Long> recipients = IntStream.range(0, 4)
+                .mapToObj(i -> userRepository.save(User.builder().email("bulk-to-" + i + "@example.com").password("pw").username("받는이" + i).build()).getId())
+                .toList();
+        List<MessageDTO> messages = IntStream.range(0, ROWS)
+                .mapToObj(i -> MessageDTO.builder().recipientId(recipients.get(i % recipients.size())).content("쪽지 " + i).build())
+                .toList();
+        Statistics statistics = statistics();
+
+        List<MessageDTO> sent = messageService.sendAll(sender, messages);
+
+        assertThat(sent).hasSize(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+        outboxRelay.drain();
+        recipients.forEach(recipient -> assertThat(messageCounters.unreadCount(recipient)).isEqualTo(ROWS / recipients.size()));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
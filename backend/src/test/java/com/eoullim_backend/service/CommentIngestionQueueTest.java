@@ -0,0 +1,85 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.PostRepository;
+import com.eoullim_backend.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 동시에 들어온 댓글이 묶음으로 저장되면서도 요청마다 자기 결과를 받는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-ingest;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class CommentIngestionQueueTest {
+
+    private static final int REQUESTS = 2000;
+
+    @Autowired private CommentIngestionQueue commentIngestionQueue;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentCommentsAreGroupCommitted() throws Exception {
+        User author = userRepository.save(User.builder().email("ingest@example.com").password("pw").username("작성자").build());
+        List<Long> posts = IntStream.range(0, 2)
+                .mapToObj(i -> postRepository.save(Post.builder().user(author).title("인기 글 " + i).content("내용").build()).getId())
+                .toList();
+        DistributionSummary batches = meterRegistry.get("comments.ingest.batch.size").summary();
+        long batchesBefore = batches.count();
+
+        ExecutorService clients = Executors.newFixedThreadPool(64);
+        List<CompletableFuture<CommentDTO>> results;
+        try {
+            results = IntStream.range(0, REQUESTS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> commentIngestionQueue.submit(posts.get(i % 2), author.getId(), "댓글 " + i), clients)
+                            .thenCompose(future -> future))
+                    .toList();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } finally {
+            clients.shutdown();
+        }
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join().getId()).isNotNull());
+        assertThat(results.get(7).join().getContent()).isEqualTo("댓글 7");
+        assertThat(batches.count() - batchesBefore).isLessThan(REQUESTS);
+        for (Long postId : posts) {
+            assertThat(jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = ?", Integer.class, postId))
+                    .isEqualTo(REQUESTS / 2);
+        }
+    }
+
+    @Test
+    void invalidRequestFailsAloneWithinBatch() {
+        User author = userRepository.save(User.builder().email("ingest-bad@example.com").password("pw").username("작성자2").build());
+        Long postId = postRepository.save(Post.builder().user(author).title("글").content("내용").build()).getId();
+
+        CompletableFuture<CommentDTO> valid = commentIngestionQueue.submit(postId, author.getId(), "정상");
+        CompletableFuture<CommentDTO> missingPost = commentIngestionQueue.submit(Long.MAX_VALUE, author.getId(), "없는 글");
+
+        assertThat(valid.join().getPostId()).isEqualTo(postId);
+        assertThatThrownBy(missingPost::join).hasMessageContaining("게시글을 찾을 수 없습니다.");
+        assertThat(jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = ?", Integer.class, postId))
+                .isEqualTo(1);
+    }
+}
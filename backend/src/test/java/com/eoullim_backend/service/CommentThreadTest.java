@@ -0,0 +1,110 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.CursorSliceDTO;
+import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.OutboxRelay;
+import com.eoullim_backend.repository.PostRepository;
+import com.eoullim_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 댓글 스레드 커서 페이지와 첫 페이지 캐시 무효화 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-thread;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class CommentThreadTest {
+
+    private static final int PAGE = CommentService.THREAD_PAGE_SIZE;
+
+    @Autowired private CommentService commentService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private OutboxRelay outboxRelay;
+
+    private Long userId;
+
+    @Test
+    void pagesThroughThreadInWriteOrder() {
+        Long postId = newPost("thread-order");
+        List<Long> written = commentService.createComments(postId, userId,
+                IntStream.range(0, PAGE * 2 + 5).mapToObj(i -> "댓글 " + i).toList())
+                .stream().map(CommentDTO::getId).toList();
+
+        List<Long> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSliceDTO<CommentDTO> page = commentService.getCommentThread(postId, cursor, PAGE);
+            page.getContent().forEach(comment -> read.add(comment.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(read).containsExactlyElementsOf(written);
+    }
+
+    @Test
+    void firstPageIsCachedAndInvalidatedOnlyWhenAffected() {
+        Long postId = newPost("thread-cache");
+        List<CommentDTO> comments = commentService.createComments(postId, userId,
+                IntStream.range(0, PAGE + 1).mapToObj(i -> "댓글 " + i).toList());
+        outboxRelay.drain();
+        Cache cache = cacheManager.getCache("comments");
+
+        CursorSliceDTO<CommentDTO> first = commentService.getCommentThread(postId, null, PAGE);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(cache.get(postId)).isNotNull();
+        assertThat(commentService.getCommentThread(postId, null, PAGE)).isSameAs(first);
+
+        // 첫 페이지가 가득 찬 상태에서 끝에 붙는 댓글, 첫 페이지 밖의 댓글 수정은 캐시를 유지
+        commentService.createComment(postId, userId, "새 댓글");
+        commentService.updateComment(comments.get(PAGE).getId(), userId, "뒤쪽 수정");
+        // 캐시 무효화는 커밋 후 outbox 이벤트로 반영된다
+        outboxRelay.drain();
+        assertThat(cache.get(postId)).isNotNull();
+
+        // 첫 페이지 안의 댓글 수정은 제거
+        commentService.updateComment(comments.get(0).getId(), userId, "앞쪽 수정");
+        outboxRelay.drain();
+        assertThat(cache.get(postId)).isNull();
+        assertThat(commentService.getCommentThread(postId, null, PAGE).getContent().get(0).getContent())
+                .isEqualTo("앞쪽 수정");
+
+        commentService.deleteComment(comments.get(1).getId(), userId);
+        outboxRelay.drain();
+        assertThat(cache.get(postId)).isNull();
+    }
+
+    @Test
+    void appendToShortThreadEvictsFirstPage() {
+        Long postId = newPost("thread-short");
+        commentService.createComment(postId, userId, "첫 댓글");
+        outboxRelay.drain();
+        assertThat(commentService.getCommentThread(postId, null, PAGE).getContent()).hasSize(1);
+
+        commentService.createComment(postId, userId, "두 번째 댓글");
+        outboxRelay.drain();
+
+        assertThat(cacheManager.getCache("comments").get(postId)).isNull();
+        assertThat(commentService.getCommentThread(postId, null, PAGE).getContent()).hasSize(2);
+    }
+
+    private Long newPost(String name) {
+        User user = userRepository.save(User.builder().email(name + "@example.com").password("pw").username(name).build());
+        userId = user.getId();
+        return postRepository.save(Post.builder().user(user).title(name).content("내용").build()).getId();
+    }
+}
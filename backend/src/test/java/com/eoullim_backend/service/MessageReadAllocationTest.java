@@ -0,0 +1,116 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.MessageDTO;
+import com.eoullim_backend.entity.Message;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.MessageRepository;
+import com.eoullim_backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 쪽지 1,000건 조회 시 엔티티 경로(사용자 전체 로딩)와 MessageDTO 프로젝션 경로의 할당량/지연 비교
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:message-read-allocation;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MessageReadAllocationTest {
+
+    private static final int MESSAGE_COUNT = 1_000;
+    private static final int SENDER_COUNT = 200;
+    private static final int ROUNDS = 20;
+
+    @Autowired private MessageRepository messageRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @PersistenceContext private EntityManager entityManager;
+
+    private Long recipientId;
+
+    @BeforeAll
+    void seed() {
+        // 프로필 이미지/소개는 TEXT 컬럼 - 엔티티 경로에서만 읽힌다
+        String bio = "소개".repeat(1_000);
+        String profileImage = "data:image/png;base64," + "A".repeat(8_000);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i <= SENDER_COUNT; i++) {
+            users.add(User.builder().email("msg-" + i + "@example.com").password("pw").username("보낸이" + i)
+                    .bio(bio).profileImage(profileImage).build());
+        }
+        users = userRepository.saveAll(users);
+        User recipient = users.get(0);
+        recipientId = recipient.getId();
+
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages.add(Message.builder().sender(users.get(1 + i % SENDER_COUNT)).recipient(recipient)
+                    .content("쪽지 " + i).build());
+        }
+        messageRepository.saveAll(messages);
+    }
+
+    @Test
+    void projectionAllocatesLessThanEntityPath() {
+        Supplier<List<MessageDTO>> entityPath = () -> transactionTemplate.execute(status -> entityManager
+                .createQuery("select m from Message m join fetch m.sender join fetch m.recipient"
+                        + " where m.recipient.id = :userId", Message.class)
+                .setParameter("userId", recipientId)
+                .getResultList().stream()
+                .map(m -> MessageDTO.builder()
+                        .id(m.getId())
+                        .senderId(m.getSender().getId())
+                        .senderName(m.getSender().getUsername())
+                        .recipientId(m.getRecipient().getId())
+                        .recipientName(m.getRecipient().getUsername())
+                        .content(m.getContent())
+                        .createdAt(m.getCreatedAt())
+                        .build())
+                .toList());
+        Supplier<List<MessageDTO>> projectionPath = () -> transactionTemplate.execute(status ->
+                messageRepository.findReceivedDTOs(recipientId));
+
+        assertThat(projectionPath.get()).hasSize(MESSAGE_COUNT).isEqualTo(entityPath.get());
+
+        Measurement entity = measure(entityPath);
+        Measurement projection = measure(projectionPath);
+        assertThat(projection.bytes())
+                .as("쪽지 %d건 조회 - 엔티티: %d KB, %.2f ms / 프로젝션: %d KB, %.2f ms", MESSAGE_COUNT,
+                        entity.bytes() / 1024, entity.millis(), projection.bytes() / 1024, projection.millis())
+                .isLessThan(entity.bytes());
+    }
+
+    // 워밍업 후 ROUNDS 회 평균 (현재 스레드 할당 바이트 기준)
+    private static Measurement measure(Supplier<List<MessageDTO>> read) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ROUNDS; i++) {
+            read.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            read.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Measurement(bytes / ROUNDS, elapsed / 1e6 / ROUNDS);
+    }
+
+    private record Measurement(long bytes, double millis) {
+    }
+}
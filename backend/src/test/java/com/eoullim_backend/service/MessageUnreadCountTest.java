@@ -0,0 +1,176 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.cache.CacheInvalidationBus;
+import com.eoullim_backend.cache.CacheInvalidationMessage;
+import com.eoullim_backend.counter.MessageCounters;
+import com.eoullim_backend.counter.UnreadCountReconciler;
+import com.eoullim_backend.dto.MessageDTO;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.OutboxRelay;
+import com.eoullim_backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+// 안 읽은 쪽지 수가 보내기/읽음/삭제에 맞춰 메모리와 DB 모두 맞게 유지되는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:message-unread-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "messages.unread.flush-interval-ms=3600000",
+        "messages.unread.reconcile-initial-delay-ms=3600000"
+})
+@AutoConfigureMockMvc
+class MessageUnreadCountTest {
+
+    @Autowired private MessageService messageService;
+    @Autowired private MessageCounters messageCounters;
+    @Autowired private UnreadCountReconciler unreadCountReconciler;
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private MockMvc mockMvc;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void unreadCountFollowsSendReadAndDelete() {
+        Long sender = userRepository.save(User.builder().email("unread-a@example.com").password("pw").username("보낸이").build()).getId();
+        Long recipient = userRepository.save(User.builder().email("unread-b@example.com").password("pw").username("받는이").build()).getId();
+
+        MessageDTO first = messageService.send(sender, recipient, "첫 번째");
+        messageService.send(sender, recipient, "두 번째");
+        MessageDTO third = messageService.send(sender, recipient, "세 번째");
+        // 안 읽은 수는 커밋 후 outbox 이벤트로 반영된다
+        outboxRelay.drain();
+        assertThat(messageService.getUnreadCount(recipient)).isEqualTo(3);
+
+        assertThat(messageService.markRead(first.getId(), recipient)).isTrue();
+        assertThat(messageService.markRead(first.getId(), recipient)).isFalse();
+        // 발신자는 읽음 처리할 수 없음
+        assertThat(messageService.markRead(third.getId(), sender)).isFalse();
+        messageService.delete(third.getId(), sender);
+        outboxRelay.drain();
+        assertThat(messageService.getUnreadCount(recipient)).isEqualTo(1);
+
+        messageCounters.flush();
+        assertThat(persistedUnread(recipient)).isEqualTo(1);
+
+        // 메모리 값을 버려도 DB + 미반영 증분으로 같은 값을 복원
+        messageService.send(sender, recipient, "네 번째");
+        outboxRelay.drain();
+        messageCounters.invalidateAll();
+        assertThat(messageService.getUnreadCount(recipient)).isEqualTo(2);
+
+        assertThat(messageService.markAllRead(recipient)).isEqualTo(2);
+        outboxRelay.drain();
+        messageCounters.flush();
+        assertThat(messageService.getUnreadCount(recipient)).isZero();
+        assertThat(persistedUnread(recipient)).isZero();
+    }
+
+    // 읽음 처리 응답은 relay 전달을 기다리지 않고 줄어든 수를 돌려주고, 이 노드가 남긴 이벤트는 전달돼도 다시 빼지 않는다
+    @Test
+    void markReadRespondsWithDecreasedCount() throws Exception {
+        Long sender = userRepository.save(User.builder().email("badge-a@example.com").password("pw").username("배지 발신").build()).getId();
+        Long recipient = userRepository.save(User.builder().email("badge-b@example.com").password("pw").username("배지 수신").build()).getId();
+        MessageDTO first = messageService.send(sender, recipient, "하나");
+        messageService.send(sender, recipient, "둘");
+        messageService.send(sender, recipient, "셋");
+        outboxRelay.drain();
+
+        mockMvc.perform(put("/api/messages/" + first.getId() + "/read").param("userId", recipient.toString()))
+                .andExpect(jsonPath("$.unreadCount").value(2));
+        outboxRelay.drain();
+        assertThat(messageService.getUnreadCount(recipient)).isEqualTo(2);
+
+        mockMvc.perform(put("/api/messages/read/" + recipient))
+                .andExpect(jsonPath("$.unreadCount").value(0));
+        outboxRelay.drain();
+        messageCounters.flush();
+        assertThat(persistedUnread(recipient)).isZero();
+    }
+
+    // 컬럼이 0 으로 추가되기 전에 쌓인 안 읽은 쪽지 - 읽어도 음수로 내려가지 않고, 보정 작업이 실제 수로 채운다
+    @Test
+    void reconcilerBackfillsUnreadCountsFromMessages() {
+        Long sender = userRepository.save(User.builder().email("legacy-a@example.com").password("pw").username("예전 발신").build()).getId();
+        Long recipient = userRepository.save(User.builder().email("legacy-b@example.com").password("pw").username("예전 수신").build()).getId();
+        MessageDTO first = messageService.send(sender, recipient, "하나");
+        messageService.send(sender, recipient, "둘");
+        messageService.send(sender, recipient, "셋");
+        outboxRelay.drain();
+        messageCounters.flush();
+        jdbcTemplate.update("UPDATE users SET unread_message_count = 0 WHERE id = ?", recipient);
+        messageCounters.invalidateAll();
+
+        messageService.markRead(first.getId(), recipient);
+        outboxRelay.drain();
+        messageCounters.flush();
+        assertThat(persistedUnread(recipient)).isZero();
+
+        // 같은 차이가 두 번의 실행에서 보여야 고친다
+        unreadCountReconciler.reconcile();
+        assertThat(persistedUnread(recipient)).isZero();
+        unreadCountReconciler.reconcile();
+        assertThat(persistedUnread(recipient)).isEqualTo(2);
+        assertThat(messageService.getUnreadCount(recipient)).isEqualTo(2);
+    }
+
+    // 한 노드의 증분이 DB에 반영되면 다른 노드가 캐시해 둔 값도 버려진다
+    @Test
+    void flushOnOneNodeInvalidatesOtherNodes() {
+        Long recipient = userRepository.save(User.builder().email("node-b@example.com").password("pw").username("다른 노드").build()).getId();
+        PairedBus busA = new PairedBus();
+        PairedBus busB = new PairedBus();
+        busA.peer = busB;
+        busB.peer = busA;
+        MessageCounters nodeA = node(busA);
+        MessageCounters nodeB = node(busB);
+        assertThat(nodeB.unreadCount(recipient)).isZero();
+
+        nodeA.adjust(recipient, 2);
+        nodeA.flush();
+
+        assertThat(nodeB.unreadCount(recipient)).isEqualTo(2);
+    }
+
+    private MessageCounters node(CacheInvalidationBus bus) {
+        return new MessageCounters(jdbcTemplate, transactionTemplate, new SimpleMeterRegistry(), bus, 100, Duration.ofMinutes(5));
+    }
+
+    // Redis pub/sub 대체 - 보낸 메시지는 상대 노드만 받는다
+    private static class PairedBus implements CacheInvalidationBus {
+        private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+        private PairedBus peer;
+
+        @Override
+        public void publish(String cacheName, Object key) {
+            CacheInvalidationMessage message = new CacheInvalidationMessage("test", cacheName, key);
+            peer.listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+            listeners.add(listener);
+        }
+    }
+
+    private int persistedUnread(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT unread_message_count FROM users WHERE id = ?", Integer.class, userId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 100만 건 내보내기 동안 힙에 남는 양이 게시글 수와 무관하게 작게 유지되는지 확인
+// -Xmx256m 별도 JVM 에서 실행 (pom.xml 의 export-heap). DB는 파일 모드 H2 라서 테이블 데이터는 힙 밖(디스크)에 있다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/h2/post-export;LAZY_QUERY_EXECUTION=TRUE",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class PostExportServiceTest {
+
+    private static final int ROWS = 1_000_000;
+    // 100만 건을 목록으로 만들면 수백 MB - 스트리밍이면 fetch size 분량과 버퍼뿐
+    private static final long MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+    private static final long SAMPLE_EVERY_BYTES = 32L * 1024 * 1024;
+
+    @Autowired private PostExportService postExportService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void exportKeepsHeapFlatForMillionPosts() throws Exception {
+        Long userId = userRepository.save(User.builder().email("export@example.com").password("pw").username("내보내기").build()).getId();
+        jdbcTemplate.update("INSERT INTO posts (id, user_id, title, content, view_count, like_count, comment_count, created_at, updated_at)"
+                + " SELECT X, ?, CONCAT('게시글 ', X), REPEAT('내용 ', 60), 0, 0, 0,"
+                + " DATEADD(SECOND, X, TIMESTAMP '2026-01-01 00:00:00'), DATEADD(SECOND, X, TIMESTAMP '2026-01-01 00:00:00')"
+                + " FROM SYSTEM_RANGE(1, ?)", userId, ROWS);
+
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+        long exported = postExportService.exportPosts(out);
+
+        assertThat(exported).isEqualTo(ROWS);
+        assertThat(out.lines).isEqualTo(ROWS);
+        assertThat(out.malformedLines).isZero();
+        assertThat(out.bytes).isGreaterThan(MAX_RETAINED_BYTES * 4);
+        assertThat(out.maxRetained - out.baseline).isLessThan(MAX_RETAINED_BYTES);
+    }
+
+    // 내보낸 양을 세고 일정 바이트마다 GC 후 힙 사용량을 기록 (응답 스트림 대신)
+    private static final class HeapSamplingOutputStream extends OutputStream {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long baseline = retained();
+        private long maxRetained = baseline;
+        private long bytes;
+        private long lines;
+        // 줄이 JSON 객체('{')로 시작하지 않은 횟수
+        private long malformedLines;
+        private boolean lineStart = true;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            int newlines = 0;
+            for (int i = offset; i < offset + length; i++) {
+                if (lineStart && buffer[i] != '{') {
+                    malformedLines++;
+                }
+                lineStart = buffer[i] == '\n';
+                if (lineStart) {
+                    newlines++;
+                }
+            }
+            count(newlines, length);
+        }
+
+        private void count(int newlines, int length) {
+            lines += newlines;
+            bytes += length;
+            if (bytes >= nextSample) {
+                maxRetained = Math.max(maxRetained, retained());
+                nextSample += SAMPLE_EVERY_BYTES;
+            }
+        }
+
+        private long retained() {
+            System.gc();
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.PostDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 순위표 용량 제한, 좋아요 반영, 시간 감쇠 확인 (DB 없이)
+class PostLeaderboardTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final PostLeaderboard leaderboard =
+            new PostLeaderboard(null, clock, 3, Duration.ofHours(1), 1, 5);
+
+    @Test
+    void keepsOnlyTopEntriesByViews() {
+        IntStream.rangeClosed(1, 10).forEach(i -> leaderboard.viewed(post(i, i * 10, 0)));
+
+        assertThat(leaderboard.mostViewed(10)).extracting(PostDTO::getId).containsExactly(10L, 9L, 8L);
+
+        // 하위 글은 최저점을 넘어야 들어온다
+        leaderboard.viewed(post(1, 85, 0));
+        assertThat(leaderboard.mostViewed(10)).extracting(PostDTO::getId).containsExactly(10L, 9L, 1L);
+    }
+
+    @Test
+    void likesAdjustTrackedPosts() {
+        leaderboard.viewed(post(1, 1, 3));
+        leaderboard.viewed(post(2, 1, 2));
+
+        leaderboard.liked(2L, 2);
+
+        assertThat(leaderboard.mostLiked(1)).singleElement()
+                .satisfies(post -> {
+                    assertThat(post.getId()).isEqualTo(2L);
+                    assertThat(post.getLikeCount()).isEqualTo(4);
+                });
+    }
+
+    @Test
+    void recentActivityOutranksOlderActivity() {
+        // 1번 글은 조회 4회, 3시간(반감기 3번) 뒤 2번 글은 조회 1회 + 좋아요 1회
+        IntStream.range(0, 4).forEach(i -> leaderboard.viewed(post(1, i + 1, 0)));
+        clock.advance(Duration.ofHours(3));
+        leaderboard.viewed(post(2, 1, 0));
+        leaderboard.liked(2L, 1);
+
+        assertThat(leaderboard.trending(2)).extracting(PostDTO::getId).containsExactly(2L, 1L);
+
+        // 기준 시각을 옮긴 뒤에도 순위는 유지
+        clock.advance(Duration.ofHours(70));
+        leaderboard.viewed(post(3, 1, 0));
+        assertThat(leaderboard.trending(3)).extracting(PostDTO::getId).containsExactly(3L, 2L, 1L);
+    }
+
+    private static PostDTO post(long id, int views, int likes) {
+        return PostDTO.builder().id(id).title("제목 " + id).viewCount(views).likeCount(likes).commentCount(0).build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
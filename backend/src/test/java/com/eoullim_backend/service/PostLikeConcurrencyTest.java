@@ -0,0 +1,202 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.counter.LikeCountReconciler;
+import com.eoullim_backend.counter.PostCounters;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.PostLike;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.PostLikeRepository;
+import com.eoullim_backend.repository.PostRepository;
+import com.eoullim_backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 게시글에 동시 좋아요가 몰려도 사용자당 1회만 반영되고 like_count 가 정확한지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-like-concurrency;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "posts.counters.flush-interval-ms=3600000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostLikeConcurrencyTest {
+
+    private static final int USER_COUNT = 10_000;
+
+    @Autowired private PostService postService;
+    @Autowired private PostCounters postCounters;
+    @Autowired private LikeCountReconciler likeCountReconciler;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long postId;
+
+    @BeforeAll
+    void seed() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.builder().email("like-" + i + "@example.com").password("pw").username("좋아요" + i).build());
+        }
+        userRepository.saveAll(users).forEach(user -> userIds.add(user.getId()));
+        postId = postRepository.save(Post.builder()
+                .user(users.get(0)).title("인기 게시글").content("내용").build()).getId();
+    }
+
+    @Test
+    void concurrentLikesAreCountedOncePerUser() throws Exception {
+        AtomicInteger applied = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            // 사용자마다 두 번씩 요청 - 중복 요청은 무시되어야 한다
+            for (int round = 0; round < 2; round++) {
+                for (Long userId : userIds) {
+                    futures.add(executor.submit(() -> {
+                        if (postService.like(postId, userId)) {
+                            applied.incrementAndGet();
+                        }
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        postCounters.flush();
+
+        assertThat(applied.get()).isEqualTo(USER_COUNT);
+        assertThat(postLikeRepository.countByPostId(postId)).isEqualTo(USER_COUNT);
+        assertThat(likeCount()).isEqualTo(USER_COUNT);
+
+        // 토글 왕복
+        Long userId = userIds.get(0);
+        assertThat(postService.toggleLike(postId, userId)).isFalse();
+        assertThat(postService.toggleLike(postId, userId)).isTrue();
+        assertThat(postService.unlike(postId, userId)).isTrue();
+        assertThat(postService.unlike(postId, userId)).isFalse();
+        postCounters.flush();
+        assertThat(likeCount()).isEqualTo(USER_COUNT - 1);
+    }
+
+    // 반영 전에 사라진 증분은 post_likes 기준으로 되돌리고, 아직 반영 전인 증분은 이중으로 세지 않는다
+    @Test
+    void reconcilerRestoresLostLikeDeltas() {
+        Long otherPostId = postRepository.save(Post.builder()
+                .user(userRepository.getReferenceById(userIds.get(0))).title("보정").content("내용").build()).getId();
+        for (int i = 0; i < 3; i++) {
+            postService.like(otherPostId, userIds.get(i));
+        }
+        postCounters.flush();
+        // 비정상 종료로 증분이 유실된 상태 - 두 번의 실행에서 같은 차이가 보여야 고친다
+        jdbcTemplate.update("UPDATE posts SET like_count = 1 WHERE id = ?", otherPostId);
+
+        likeCountReconciler.reconcile();
+        assertThat(likeCount(otherPostId)).isEqualTo(1);
+        likeCountReconciler.reconcile();
+        assertThat(likeCount(otherPostId)).isEqualTo(3);
+
+        postService.like(otherPostId, userIds.get(3));
+        likeCountReconciler.reconcile();
+        postCounters.flush();
+        assertThat(likeCount(otherPostId)).isEqualTo(4);
+    }
+
+    // 다른 노드의 반영 전 증분 - 처음 본 차이는 그 노드가 반영하면 사라지므로 덮어쓰지 않는다
+    @Test
+    void reconcilerLeavesOtherNodesPendingDeltas() {
+        Long otherPostId = postRepository.save(Post.builder()
+                .user(userRepository.getReferenceById(userIds.get(0))).title("다른 노드").content("내용").build()).getId();
+        postService.like(otherPostId, userIds.get(0));
+        postCounters.flush();
+        // 다른 노드에서 커밋된 좋아요 (증분은 그 노드 메모리에만 있음)
+        postLikeRepository.save(PostLike.builder()
+                .post(postRepository.getReferenceById(otherPostId)).user(userRepository.getReferenceById(userIds.get(1))).build());
+
+        likeCountReconciler.reconcile();
+        // 그 노드가 증분을 반영한 뒤 다시 실행
+        jdbcTemplate.update("UPDATE posts SET like_count = like_count + 1 WHERE id = ?", otherPostId);
+        likeCountReconciler.reconcile();
+        likeCountReconciler.reconcile();
+
+        assertThat(likeCount(otherPostId)).isEqualTo(2);
+
+        // 처음 본 뒤 보정 전에 좋아요가 커밋되면 그 차이는 확정되지 않는다
+        jdbcTemplate.update("UPDATE posts SET like_count = 0 WHERE id = ?", otherPostId);
+        likeCountReconciler.reconcile();
+        postService.like(otherPostId, userIds.get(2));
+        likeCountReconciler.reconcile();
+        postCounters.flush();
+        likeCountReconciler.reconcile();
+        assertThat(likeCount(otherPostId)).isEqualTo(1);
+        likeCountReconciler.reconcile();
+        assertThat(likeCount(otherPostId)).isEqualTo(3);
+    }
+
+    // DB 값에 미반영 증분을 더하는 읽기 도중에는 반영이 커밋되지 않는다 (커밋된 행 + 확정 전 증분으로 부풀지 않게)
+    @Test
+    void flushWaitsForReadersCombiningPendingCounts() throws Exception {
+        Long otherPostId = postRepository.save(Post.builder()
+                .user(userRepository.getReferenceById(userIds.get(0))).title("읽기 중 반영").content("내용").build()).getId();
+        postService.like(otherPostId, userIds.get(0));
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<PostDTO> read = executor.submit(() -> postCounters.withPendingCounts(() -> {
+                PostDTO post = postService.getPost(otherPostId);
+                reading.countDown();
+                await(release);
+                return post;
+            }));
+            assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<?> flushing = executor.submit(postCounters::flush);
+            Thread.sleep(200);
+            assertThat(flushing.isDone()).isFalse();
+
+            release.countDown();
+            assertThat(read.get(10, TimeUnit.SECONDS).getLikeCount()).isEqualTo(1);
+            flushing.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(likeCount(otherPostId)).isEqualTo(1);
+        assertThat(postCounters.withPendingCounts(() -> postService.getPost(otherPostId)).getLikeCount()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int likeCount() {
+        return likeCount(postId);
+    }
+
+    private int likeCount(Long id) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,150 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.OutboxRelay;
+import com.eoullim_backend.repository.CommentRepository;
+import com.eoullim_backend.repository.PostRepository;
+import com.eoullim_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 목록 조회가 게시글 수와 무관하게 일정한 쿼리 수로 끝나는지 확인 (N+1 회귀 방지)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-query-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "posts.feed-cache.capacity=10",
+        "outbox.relay.enabled=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostServiceQueryCountTest {
+
+    private static final int POST_COUNT = 1_000;
+
+    @Autowired private PostService postService;
+    @Autowired private PostRepository postRepository;
+    @Autowired private CommentService commentService;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private PostFeedCache postFeedCache;
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeAll
+    void seed() {
+        User user = userRepository.save(User.builder()
+                .email("query-count@example.com")
+                .password("pw")
+                .username("쿼리카운트")
+                .build());
+        userId = user.getId();
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            posts.add(Post.builder().user(user).title("제목 " + i).content("내용 " + i).build());
+        }
+        posts = postRepository.saveAll(posts);
+
+        for (int i = 0; i < POST_COUNT; i += 10) {
+            commentService.createComment(posts.get(i).getId(), userId, "댓글");
+        }
+        outboxRelay.drain();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        cacheManager.getCache("posts").clear();
+        // 전달 전 피드 이벤트가 남아 있으면 읽은 목록을 캐시에 넣지 않으므로 먼저 전달
+        outboxRelay.drain();
+        // 피드 캐시는 최신 10건만 보관 - 그 밖의 조회는 DB 경로를 탄다
+        postFeedCache.invalidate();
+        postService.getFeed(null, 1);
+        statistics.clear();
+    }
+
+    @Test
+    void getAllPostsUsesSingleStatement() {
+        var posts = postService.getAllPosts();
+
+        assertThat(posts).hasSizeGreaterThanOrEqualTo(POST_COUNT);
+        assertThat(posts.stream().mapToInt(p -> p.getCommentCount()).sum()).isEqualTo(POST_COUNT / 10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void paginationUsesPageAndCountStatementsOnly() {
+        var page = postService.getPostsWithPagination(3, 50);
+
+        assertThat(page.getContent()).hasSize(50);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void feedWithinCachedWindowSkipsDatabase() {
+        var feed = postService.getFeed(null, 10);
+
+        assertThat(feed.getContent()).hasSize(10);
+        assertThat(feed.isHasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void userPostsUsesSingleStatement() {
+        var posts = postService.getUserPosts(userId);
+
+        assertThat(posts).hasSize(POST_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void deletePostUsesConstantStatementCount() {
+        long fewComments = deletePostWithComments(2);
+        long manyComments = deletePostWithComments(300);
+
+        assertThat(manyComments).isEqualTo(fewComments);
+    }
+
+    // 댓글/좋아요가 달린 게시글을 만들어 삭제하고, 삭제에 쓰인 문장 수를 반환
+    private long deletePostWithComments(int comments) {
+        User author = userRepository.save(User.builder()
+                .email("delete-" + comments + "@example.com")
+                .password("pw")
+                .username("삭제" + comments)
+                .build());
+        Long postId = postRepository.save(Post.builder().user(author).title("삭제할 글").content("내용").build()).getId();
+        for (int i = 0; i < comments; i++) {
+            commentService.createComment(postId, userId, "댓글 " + i);
+        }
+        postService.like(postId, userId);
+
+        statistics.clear();
+        postService.deletePost(postId, author.getId());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(postRepository.existsById(postId)).isFalse();
+        assertThat(commentRepository.countByPostId(postId)).isZero();
+        return statements;
+    }
+}
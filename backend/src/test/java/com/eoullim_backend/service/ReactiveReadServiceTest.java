@@ -0,0 +1,57 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.dto.CommentDTO;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.entity.Post;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.repository.PostRepository;
+import com.eoullim_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스트림이 페이지 경계를 넘어 전체를 순서대로 내보내는지 확인 (페이지 크기 7)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-read;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "posts.feed-cache.capacity=5",
+        "reactive.stream.page-size=7"
+})
+class ReactiveReadServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired private ReactiveReadService reactiveReadService;
+    @Autowired private CommentService commentService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PostRepository postRepository;
+
+    @Test
+    void streamsWholeFeedAndThreadAcrossPages() {
+        User user = userRepository.save(User.builder().email("reactive@example.com").password("pw").username("리액티브").build());
+        List<Long> posts = IntStream.range(0, 23)
+                .mapToObj(i -> postRepository.save(Post.builder().user(user).title("글 " + i).content("내용").build()).getId())
+                .toList();
+        List<Long> comments = commentService.createComments(posts.get(0), user.getId(),
+                IntStream.range(0, 16).mapToObj(i -> "댓글 " + i).toList())
+                .stream().map(CommentDTO::getId).toList();
+
+        List<Long> feed = reactiveReadService.streamFeed().map(PostDTO::getId).collectList().block(TIMEOUT);
+        List<Long> thread = reactiveReadService.streamComments(posts.get(0)).map(CommentDTO::getId).collectList().block(TIMEOUT);
+
+        List<Long> newestFirst = new ArrayList<>(posts);
+        Collections.reverse(newestFirst);
+        assertThat(feed).containsExactlyElementsOf(newestFirst);
+        assertThat(thread).containsExactlyElementsOf(comments);
+        assertThat(reactiveReadService.streamFeed().take(3).collectList().block(TIMEOUT)).hasSize(3);
+    }
+}
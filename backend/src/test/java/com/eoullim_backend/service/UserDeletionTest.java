@@ -0,0 +1,142 @@
+package com.eoullim_backend.service;
+
+import com.eoullim_backend.counter.MessageCounters;
+import com.eoullim_backend.counter.PostCounters;
+import com.eoullim_backend.dto.AccountDeletionJobDTO;
+import com.eoullim_backend.dto.PostDTO;
+import com.eoullim_backend.dto.PostRequestDTO;
+import com.eoullim_backend.entity.User;
+import com.eoullim_backend.event.OutboxRelay;
+import com.eoullim_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 회원 탈퇴가 데이터 양과 무관한 문장 수로 끝나고, 다른 사용자의 카운터를 맞게 차감하는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-deletion;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "outbox.relay.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "posts.counters.flush-interval-ms=3600000",
+        "messages.unread.flush-interval-ms=3600000",
+        "users.deletion.chunk-size=7"
+})
+class UserDeletionTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired private UserService userService;
+    @Autowired private AccountDeletionService accountDeletionService;
+    @Autowired private PostService postService;
+    @Autowired private CommentService commentService;
+    @Autowired private MessageService messageService;
+    @Autowired private PostCounters postCounters;
+    @Autowired private MessageCounters messageCounters;
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void deleteUserUsesConstantStatementCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Long other = newUser();
+        Long small = newUser();
+        Long otherPost = seedActivity(small, other, 1);
+        statistics.clear();
+        userService.deleteUser(small);
+        long smallStatements = statistics.getPrepareStatementCount();
+        assertCleanedUp(small, other, otherPost);
+
+        Long large = newUser();
+        otherPost = seedActivity(large, other, 40);
+        statistics.clear();
+        userService.deleteUser(large);
+        long largeStatements = statistics.getPrepareStatementCount();
+        assertCleanedUp(large, other, otherPost);
+
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    void deletionJobPurgesInChunks() throws InterruptedException {
+        Long other = newUser();
+        Long target = newUser();
+        Long otherPost = seedActivity(target, other, 20);
+
+        AccountDeletionJobDTO job = accountDeletionService.requestDeletion(target);
+        for (int i = 0; i < 100 && !isFinished(job); i++) {
+            Thread.sleep(50);
+            job = accountDeletionService.getJob(job.getJobId()).orElseThrow();
+        }
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getDeletedPosts()).isEqualTo(20);
+        assertThat(job.getDeletedComments()).isEqualTo(20);
+        assertThat(job.getDeletedLikes()).isEqualTo(1);
+        assertThat(job.getDeletedMessages()).isEqualTo(20 + 3 + 1);
+        assertCleanedUp(target, other, otherPost);
+    }
+
+    // user: 게시글 posts 개 (other 가 각 글에 댓글/좋아요), other 의 글에 댓글 posts 개 + 좋아요, other 에게 쪽지 posts 개
+    private Long seedActivity(Long user, Long other, int posts) {
+        Long otherPost = postService.createPost(other, new PostRequestDTO(other, "다른 사람 글", "내용")).getId();
+        for (int i = 0; i < posts; i++) {
+            PostDTO post = postService.createPost(user, new PostRequestDTO(user, "제목 " + i, "내용"));
+            commentService.createComment(post.getId(), other, "댓글");
+            postService.like(post.getId(), other);
+            commentService.createComment(otherPost, user, "댓글 " + i);
+            messageService.send(user, other, "쪽지 " + i);
+        }
+        postService.like(otherPost, user);
+        for (int i = 0; i < 3; i++) {
+            messageService.send(other, user, "답장 " + i);
+        }
+        messageService.markAllRead(other);
+        messageService.send(user, other, "안 읽은 쪽지");
+        outboxRelay.drain();
+        postCounters.flush();
+        messageCounters.flush();
+        return otherPost;
+    }
+
+    private void assertCleanedUp(Long user, Long other, Long otherPost) {
+        outboxRelay.drain();
+        assertThat(userRepository.existsById(user)).isFalse();
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE user_id = ?", user)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE user_id = ?", user)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM post_likes WHERE user_id = ?", user)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM messages WHERE sender_id = ? OR recipient_id = ?", user, user)).isZero();
+        // 다른 사용자의 글과 받은 쪽지 카운터가 남은 데이터와 일치
+        assertThat(count("SELECT comment_count FROM posts WHERE id = ?", otherPost)).isZero();
+        assertThat(count("SELECT like_count FROM posts WHERE id = ?", otherPost)).isZero();
+        assertThat(count("SELECT unread_message_count FROM users WHERE id = ?", other)).isZero();
+        assertThat(messageService.getUnreadCount(other)).isZero();
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+
+    private static boolean isFinished(AccountDeletionJobDTO job) {
+        return job.getFinishedAt() != null;
+    }
+
+    private Long newUser() {
+        int n = SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder().email("deletion-" + n + "@example.com").password("pw")
+                .username("탈퇴" + n).build()).getId();
+    }
+}
@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# JMH 벤치마크 실행과 결과 비교 (backend 의 benchmark 프로필, 소스는 backend/src/jmh/java)
+# 결과 JSON 은 커밋별로 backend/benchmarks/results/<날짜>-<커밋>.json 에 쌓인다.
+#
+#   ./benchmark.sh                                   # 전체 (rows=1000/100000/1000000, 수십 분)
+#   ./benchmark.sh ServiceReadBenchmark -p rows=1000 # JMH 옵션 그대로 전달
+#   ./benchmark.sh compare <이전.json> <이후.json>    # 벤치마크별 점수와 건당 할당량 비교
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")" && pwd)
+RESULTS="$ROOT/backend/benchmarks/results"
+
+if [ "${1:-}" = "compare" ]; then
+  if [ $# -ne 3 ]; then
+    echo "사용법: $0 compare <이전.json> <이후.json>" >&2
+    exit 1
+  fi
+  python3 - "$2" "$3" <<'PY'
+import json, sys
+
+def load(path):
+    rows = {}
+    for r in json.load(open(path)):
+        key = (r["benchmark"].rsplit(".", 2)[-2] + "." + r["benchmark"].rsplit(".", 1)[-1],
+               r.get("params", {}).get("rows", "-"), r["mode"])
+        alloc = r.get("secondaryMetrics", {}).get("gc.alloc.rate.norm", {}).get("score")
+        p99 = r["primaryMetric"].get("scorePercentiles", {}).get("99.0") if r["mode"] == "sample" else None
+        rows[key] = (r["primaryMetric"]["score"], r["primaryMetric"]["scoreUnit"], p99, alloc)
+    return rows
+
+before, after = load(sys.argv[1]), load(sys.argv[2])
+print(f"{'benchmark':45} {'rows':>8} {'mode':>6} {'before':>12} {'after':>12} {'change':>8} {'p99 after':>10} {'B/op after':>12}")
+for key in sorted(before.keys() & after.keys()):
+    (b, unit, _, _), (a, _, p99, alloc) = before[key], after[key]
+    change = (a - b) / b * 100 if b else float("nan")
+    p99_text = f"{p99:.3f}" if p99 is not None else "-"
+    alloc_text = f"{alloc:.0f}" if alloc is not None else "-"
+    print(f"{key[0]:45} {key[1]:>8} {key[2]:>6} {b:12.3f} {a:12.3f} {change:+7.1f}% {p99_text:>10} {alloc_text:>12}  {unit}")
+PY
+  exit 0
+fi
+
+mkdir -p "$RESULTS"
+COMMIT=$(git -C "$ROOT" rev-parse --short HEAD)
+if [ -n "$(git -C "$ROOT" status --porcelain -- backend/src backend/pom.xml)" ]; then
+  COMMIT="$COMMIT-dirty"
+fi
+RESULT="$RESULTS/$(date +%Y%m%d-%H%M)-$COMMIT.json"
+
+(cd "$ROOT/backend" && sh ./mvnw -B -Pbenchmark -DskipTests \
+  -Djmh.result="$RESULT" -Djmh.args="$*" verify)
+
+echo "결과: $RESULT"
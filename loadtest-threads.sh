@@ -0,0 +1,92 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 vs 가상 스레드 부하 비교
+# 같은 jar 를 두 모드로 차례로 띄워 동시 1000 클라이언트로 DB를 읽는 API를 호출하고 처리량과 p99 를 비교한다.
+# 가상 스레드 모드는 Java 21 이상이 필요하다 (JAVA_HOME 또는 PATH 의 java).
+#
+#   ./loadtest-threads.sh                       # 기본: 동시 1000, 요청 20000
+#   CONCURRENCY=2000 REQUESTS=50000 ./loadtest-threads.sh
+#
+# 결과: loadtest_threads_platform.txt, loadtest_threads_virtual.txt (loadtest 출력 원문)
+set -euo pipefail
+
+CONCURRENCY=${CONCURRENCY:-1000}
+REQUESTS=${REQUESTS:-20000}
+PORT=${PORT:-18080}
+COMMENTS=${COMMENTS:-50}
+ROOT=$(cd "$(dirname "$0")" && pwd)
+JAR="$ROOT/backend/target/eoullim-backend-0.0.1-SNAPSHOT.jar"
+BASE="http://localhost:$PORT/api"
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+JAVA_MAJOR=$("$JAVA" -version 2>&1 | sed -n 's/.*version "\([0-9]*\).*/\1/p' | head -1)
+if [ "${JAVA_MAJOR:-0}" -lt 21 ]; then
+  echo "경고: Java $JAVA_MAJOR - 가상 스레드는 21 이상에서만 켜진다. virtual 결과도 플랫폼 스레드로 측정된다." >&2
+fi
+
+(cd "$ROOT/backend" && sh ./mvnw -B -q package -DskipTests)
+
+APP_PID=
+stop_app() {
+  if [ -n "$APP_PID" ]; then
+    kill "$APP_PID" 2>/dev/null || true
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+  fi
+}
+trap stop_app EXIT
+
+start_app() {
+  local profile=$1
+  SERVER_PORT=$PORT "$JAVA" -jar "$JAR" \
+    --spring.profiles.active="$profile" \
+    --spring.jpa.show-sql=false \
+    --logging.level.org.hibernate.SQL=INFO \
+    --logging.level.com.eoullim_backend=INFO \
+    > "$ROOT/backend/target/loadtest_threads_$2.log" 2>&1 &
+  APP_PID=$!
+  for _ in $(seq 1 60); do
+    curl -s -o /dev/null "http://localhost:$PORT/actuator/health" && return
+    sleep 1
+  done
+  echo "서버 기동 실패 ($2) - backend/target/loadtest_threads_$2.log 확인" >&2
+  exit 1
+}
+
+# 게시글 하나와 댓글 COMMENTS 개 - 매 요청마다 댓글 목록을 DB에서 읽는다 (캐시되지 않는 경로)
+seed() {
+  local user post contents
+  user=$(curl -sf -XPOST "$BASE/users/signup" -H 'Content-Type: application/json' \
+    -d '{"email":"loadtest@example.com","password":"pw","username":"loadtest"}' | sed 's/.*"id":\([0-9]*\).*/\1/')
+  post=$(curl -sf -XPOST "$BASE/posts" -H 'Content-Type: application/json' \
+    -d "{\"userId\":$user,\"title\":\"부하 테스트\",\"content\":\"내용\"}" | sed 's/.*"id":\([0-9]*\).*/\1/')
+  contents=$(seq 1 "$COMMENTS" | sed 's/.*/"댓글 &"/' | paste -sd, -)
+  curl -sf -o /dev/null -XPOST "$BASE/comments/bulk?postId=$post&userId=$user" \
+    -H 'Content-Type: application/json' -d "{\"contents\":[$contents]}"
+  echo "$post"
+}
+
+run() {
+  local mode=$1 profile=$2 post
+  echo "== $mode ($profile)"
+  start_app "$profile" "$mode"
+  post=$(seed)
+  # 워밍업 (JIT, 커넥션 풀)
+  npx --yes loadtest -q -c 50 -n 2000 -k "$BASE/comments/post/$post" > /dev/null
+  npx --yes loadtest -c "$CONCURRENCY" -n "$REQUESTS" -k "$BASE/comments/post/$post" \
+    > "$ROOT/loadtest_threads_$mode.txt"
+  stop_app
+}
+
+run platform default
+run virtual virtual-threads
+
+echo
+printf '%-10s %12s %10s %10s %8s\n' mode rps p50 p99 errors
+for mode in platform virtual; do
+  file="$ROOT/loadtest_threads_$mode.txt"
+  rps=$(tr -d '\0' < "$file" | sed -n 's/.*Effective rps: *\([0-9.]*\).*/\1/p' | head -1)
+  p50=$(tr -d '\0' < "$file" | sed -n 's/^ *50% *\([0-9]* ms\).*/\1/p' | head -1)
+  p99=$(tr -d '\0' < "$file" | sed -n 's/^ *99% *\([0-9]* ms\).*/\1/p' | head -1)
+  errors=$(tr -d '\0' < "$file" | sed -n 's/.*Total errors: *\([0-9]*\).*/\1/p' | head -1)
+  printf '%-10s %12s %10s %10s %8s\n' "$mode" "$rps" "$p50" "$p99" "$errors"
+done